@@ -2,15 +2,23 @@ package app;
 
 import controller.GameController;
 import difficulty.Difficulty;
-import repository.FileScoreRepository;
+import repository.BinaryScoreRepository;
+import repository.CachingScoreRepository;
 import repository.FileTextRepository;
+import repository.MappedTextRepository;
+import repository.WriteBehindScoreRepository;
 import repository.interfaces.ScoreRepository;
 import repository.interfaces.TextRepository;
 import ui.*;
 
+import util.AssetManifest;
+import util.AssetPreloader;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 // 게임의 메인 프레임(창)을 담당하는 클래스
 // 화면 전환 및 전체적인 UI 구성 관리
@@ -18,11 +26,13 @@ public class GameFrame extends JFrame {
 
     private final TextRepository textRepository;
     private final ScoreRepository scoreRepository;
+    private final WriteBehindScoreRepository scoreWriter; // 점수 쓰기 큐 (지표 확인용)
     private final ScorePanel scorePanel;
     private final GameController controller;
-    private final GamePanel gamePanel;
-    private final EditPanel editPanel;
-    private final ScoreHistoryPanel scoreHistoryPanel; // 점수 기록 패널
+    // 시작 메뉴 외의 패널은 처음 화면에 보일 때 만듦 (창이 뜨기 전에 할 일을 줄이기 위함)
+    private GamePanel gamePanel;
+    private EditPanel editPanel;
+    private ScoreHistoryPanel scoreHistoryPanel; // 점수 기록 패널
     private final StartMenuPanel startMenuPanel;
 
     // 현재 선택된 게임 난이도
@@ -34,18 +44,43 @@ public class GameFrame extends JFrame {
     public GameFrame() {
         super("별똥별 사냥꾼");
 
+        // 이미지, 폰트, 효과음을 작업 스레드들에서 미리 읽기 시작 (창 구성과 동시에 진행)
+        CompletableFuture<Void> preload = AssetPreloader.start(this::onAssetProgress);
+
         // 리포지토리 및 컨트롤러 초기화. 의존성 주입.
-        this.textRepository = new FileTextRepository("words.txt");
-        this.scoreRepository = new FileScoreRepository("scores.txt");
+        // -Dmeteor.wordRepository=mapped 이면 아주 큰 단어 파일용 메모리 매핑 리포지토리 사용
+        if ("mapped".equals(System.getProperty("meteor.wordRepository"))) {
+            this.textRepository = new MappedTextRepository("words.txt");
+        } else {
+            this.textRepository = new FileTextRepository("words.txt");
+        }
+        // 점수는 이진 레코드 파일에 저장 (이전 형식의 scores.txt가 있으면 처음 한 번 변환)
+        // 상위 점수 캐시로 감싸서 순위 조회 시 디스크를 읽지 않게 하고,
+        // 쓰기 큐로 한 번 더 감싸서 점수 저장 시 EDT가 디스크를 기다리지 않게 함
+        // -Dmeteor.scoreSync=every_batch|interval|never 로 디스크 동기화 시점 지정 (기본 interval)
+        this.scoreWriter = new WriteBehindScoreRepository(
+                new CachingScoreRepository(new BinaryScoreRepository("scores.bin", "scores.txt"), "scores.bin"),
+                WriteBehindScoreRepository.SyncPolicy.parse(System.getProperty("meteor.scoreSync"),
+                        WriteBehindScoreRepository.SyncPolicy.INTERVAL));
+        this.scoreRepository = scoreWriter;
         this.scorePanel = new ScorePanel();
         this.controller = new GameController(textRepository, scoreRepository, scorePanel);
         this.controller.setOnGameOver(this::showStartMenu); // 게임 오버 시 시작 메뉴로 자동 전환
+        this.controller.addReportSource(scoreWriter::getMetricsText); // 점수 쓰기 지표를 지연 시간 요약/기록에 포함
+        this.controller.addReportSource(util.SoundManager::getMixerStatsText); // 믹서가 아직 없으면 빠짐
+        this.controller.addReportSource(util.ImageLoader::getStatsText);
+        if (textRepository instanceof MappedTextRepository) {
+            this.controller.addReportSource(((MappedTextRepository) textRepository)::getStatsText);
+        }
 
         // UI 패널 초기화. 컨트롤러를 주입하여 패널들이 게임 로직과 상호작용하도록 함
-        this.gamePanel = new GamePanel(controller);
-        this.editPanel = new EditPanel(controller);
-        this.scoreHistoryPanel = new ScoreHistoryPanel(scoreRepository);
         this.startMenuPanel = new StartMenuPanel(this);
+        // 패널이 만들어지기 전에 끝난 진행 알림은 놓칠 수 있으므로, 완료는 패널을 만든 뒤에 다시 알림
+        // 미리 읽기가 끝나면 기본 폰트로 만들어 둔 패널에 Pretendard를 적용
+        preload.thenRun(() -> SwingUtilities.invokeLater(() -> {
+            startMenuPanel.setLoadingProgress(AssetManifest.size(), AssetManifest.size());
+            scorePanel.applyFonts();
+        }));
 
         setSize(Main.WIDTH, Main.HEIGHT); // 프레임 초기 크기
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE); // 창 닫기 버튼 클릭 시 프로그램 종료
@@ -66,6 +101,28 @@ public class GameFrame extends JFrame {
             }
         });
 
+        // F3: 게임 화면에 입력 지연 시간 요약 표시 켜기/끄기, F4: 지연 시간 기록을 파일로 저장 (점수 쓰기 등 지표 포함)
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "toggleLatencyOverlay");
+        actionMap.put("toggleLatencyOverlay", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                controller.toggleLatencyOverlay();
+            }
+        });
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_F4, 0), "dumpLatencyReport");
+        actionMap.put("dumpLatencyReport", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                Path saved = controller.dumpLatencyReport("latency-report.txt");
+                JOptionPane.showMessageDialog(
+                        GameFrame.this,
+                        (saved != null) ? "지연 시간 기록 저장: " + saved : "지연 시간 기록을 저장하지 못했습니다.",
+                        "Info",
+                        (saved != null) ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.ERROR_MESSAGE
+                );
+            }
+        });
+
         // 상단 툴바 생성 및 초기 설정
         createToolBar();
         
@@ -86,6 +143,34 @@ public class GameFrame extends JFrame {
         util.SoundManager.playBGM("background.wav");
     }
 
+    // 리소스 미리 읽기 진행 상황을 시작 메뉴에 표시. EDT에서 호출됨
+    private void onAssetProgress(int loaded, int total, String asset) {
+        if (startMenuPanel != null) {
+            startMenuPanel.setLoadingProgress(loaded, total);
+        }
+    }
+
+    private GamePanel getGamePanel() {
+        if (gamePanel == null) {
+            gamePanel = new GamePanel(controller);
+        }
+        return gamePanel;
+    }
+
+    private EditPanel getEditPanel() {
+        if (editPanel == null) {
+            editPanel = new EditPanel(controller);
+        }
+        return editPanel;
+    }
+
+    private ScoreHistoryPanel getScoreHistoryPanel() {
+        if (scoreHistoryPanel == null) {
+            scoreHistoryPanel = new ScoreHistoryPanel(scoreRepository);
+        }
+        return scoreHistoryPanel;
+    }
+
     // 게임 플레이 중 표시되는 툴바를 생성하고 구성
     private void createToolBar() {
         toolBar = new JToolBar();
@@ -128,6 +213,7 @@ public class GameFrame extends JFrame {
         }
         mainContainer.removeAll(); // 기존 콘텐츠 제거
         
+        ScoreHistoryPanel scoreHistoryPanel = getScoreHistoryPanel();
         scoreHistoryPanel.refreshScores(); // 게임 시작 시 점수 기록 목록을 갱신
 
         // 우측 영역을 점수판(상단)과 기록 패널(하단)으로 분할
@@ -139,6 +225,7 @@ public class GameFrame extends JFrame {
 
         // 전체 화면을 좌측(게임)과 우측(점수/기록)으로 분할
         JSplitPane mainSplitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT);
+        GamePanel gamePanel = getGamePanel();
         mainSplitPane.setLeftComponent(gamePanel); // 좌측에 게임 플레이 패널
         mainSplitPane.setRightComponent(rightSplitPane); // 우측에 점수/기록 분할 패널
         mainSplitPane.setDividerLocation(600); // 전체 분할기의 초기 위치 (게임 화면을 넓게)
@@ -147,7 +234,7 @@ public class GameFrame extends JFrame {
         mainContainer.add(mainSplitPane, BorderLayout.CENTER); // 분할된 화면을 메인 컨테이너에 추가
 
         // 게임 컨트롤러에게 게임 시작을 알림
-        controller.startGame(gamePanel.getGroundPanel(), selectedDifficulty);
+        controller.startGame(gamePanel.getGameView(), selectedDifficulty);
 
         mainContainer.revalidate();
         mainContainer.repaint();
@@ -157,7 +244,7 @@ public class GameFrame extends JFrame {
     // 현재는 게임 중에는 우측 패널에 포함되지 않고, 별도 메뉴에서 호출될 때 사용
     public void showEditPanel() {
         mainContainer.removeAll();
-        mainContainer.add(editPanel, BorderLayout.CENTER);
+        mainContainer.add(getEditPanel(), BorderLayout.CENTER);
 
         // 뒤로가기 버튼 추가 (단어 추가 화면에서 시작 메뉴로 돌아가기 위함)
         JButton back = new JButton("뒤로가기");
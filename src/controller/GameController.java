@@ -1,17 +1,22 @@
 package controller;
 
 import data.ScoreEntry;
-import data.Word;
+import data.MeteorStore;
+import data.PrefixTrie;
+import data.SpawnPool;
 import difficulty.Difficulty;
 import repository.interfaces.ScoreRepository;
 import repository.interfaces.TextRepository;
-import ui.GroundPanel;
+import ui.GameView;
 import ui.ScorePanel;
 
 import javax.swing.*;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.swing.SwingUtilities;
 import javax.swing.JOptionPane;
 
@@ -19,24 +24,53 @@ import javax.swing.JOptionPane;
 // 게임 루프, 단어 생성 및 이동, 충돌 감지, 점수 처리 등 수행
 public class GameController {
 
+    // 속도 값(각속도, 접근 속도)의 기준이 되는 틱 레이트. 속도는 초당 60틱 기준 1틱당 이동량으로 정의됨
+    private static final int BASE_TICK_RATE = 60;
+    // 한 번의 루프에서 따라잡을 수 있는 최대 틱 수. 이를 넘는 지연은 버려서 처리 지연이 누적되지 않게 함
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    // 난이도별 단어가 이보다 적으면 같은 단어만 반복되므로 전체 단어에서 생성
+    private static final int MIN_DIFFICULTY_WORDS = 16;
+
     private final TextRepository textRepository;
     private final ScoreRepository scoreRepository;
     private final ScorePanel scorePanel;
 
-    // 현재 화면에 떠있는 단어 목록. 여러 스레드에서 접근하므로 스레드 안전하게 구성
-    private final List<Word> activeWords =
-            Collections.synchronizedList(new ArrayList<Word>());
+    // 현재 화면에 떠있는 별똥별(단어) 저장소. 여러 스레드에서 접근하므로 이 객체를 락으로 사용하여 동기화
+    private final MeteorStore meteors = new MeteorStore();
+    // 단어 목록이 바뀔 때마다 게시되는 월드 스냅샷. 렌더러는 락 없이 이것만 읽음
+    private final WorldSnapshotBuffer snapshots = new WorldSnapshotBuffer();
+    // 새 별똥별 단어를 뽑는 풀. 화면에 없는 단어 중에서만 뽑음 (meteors 락으로 보호)
+    // 단어는 리포지토리에서 번호로 하나씩 읽으므로 게임을 시작할 때 사전을 복사하지 않음
+    private final SpawnPool spawnPool = new SpawnPool();
+    // 증분 매칭 상태 (meteors 락으로 보호)
+    // typedPath[k]는 입력 중인 텍스트의 앞 k글자에 해당하는 트라이 노드. 해당하는 단어가 없으면 null
+    // (그 뒤에 해당하는 별똥별이 생기면 resolveTypedPath가 다시 채움)
+    private String typedText = "";
+    private PrefixTrie.Node[] typedPath = new PrefixTrie.Node[32];
+    private volatile String lockOnTarget = null; // 현재 조준(lock-on) 중인 단어
+
+    // 입력부터 화면 반영까지의 지연 시간 측정
+    private final HitLatencyTracker latency = new HitLatencyTracker();
+    private volatile boolean latencyOverlayVisible = false; // 지연 시간 요약을 게임 화면에 표시할지 여부
 
     // 게임 루프의 실행 상태를 제어하는 플래그. volatile 키워드로 가시성 보장
     private volatile boolean running = false;
     private volatile boolean paused = false; // 일시정지 상태 플래그
     private final Object pauseLock = new Object(); // 일시정지 동기화를 위한 락 객체
     private Thread gameLoopThread = null; // 게임 루프를 실행할 별도의 스레드
+    private volatile GameView gameView = null; // 게임 화면을 그리는 뷰 (지연 시간 요약이 다른 스레드에서 읽음)
 
     private int orbitCenterX; // 플레이어(행성)의 중심 X 좌표
     private int orbitCenterY; // 플레이어(행성)의 중심 Y 좌표
     private int playerCollisionRadius = 0; // 플레이어의 충돌 반경
 
+    // 고정 시간 간격 시뮬레이션 설정. -Dmeteor.tickRate 로 기본 틱 레이트 변경 가능
+    private int tickRate = Integer.getInteger("meteor.tickRate", BASE_TICK_RATE);
+    private double tickScale = 1.0; // BASE_TICK_RATE 기준 속도를 현재 틱 레이트에 맞추는 배율
+    private volatile long tickNanos = 1_000_000_000L / BASE_TICK_RATE; // 틱 하나의 길이 (나노초)
+    private volatile long lastTickNanos = 0; // 마지막 틱의 시뮬레이션 시각 (렌더링 보간에 사용)
+    private volatile long droppedTicks = 0;  // 따라잡기 한도를 넘어 버려진 틱 수
+
     private Difficulty currentDifficulty = Difficulty.EASY; // 현재 게임 난이도
     private Runnable onGameOver; // 게임 오버 시 실행될 콜백
 
@@ -46,6 +80,11 @@ public class GameController {
         this.textRepository = textRepository;
         this.scoreRepository = scoreRepository;
         this.scorePanel = scorePanel;
+        latency.addReportSource(this::getContentionStatsText);
+        latency.addReportSource(() -> {
+            GameView view = gameView;
+            return (view == null) ? null : view.getFrameStatsText();
+        });
     }
 
     public void setOnGameOver(Runnable onGameOver) {
@@ -56,6 +95,31 @@ public class GameController {
         this.playerCollisionRadius = radius;
     }
 
+    // 초당 시뮬레이션 틱 수 설정. 다음 게임 시작부터 적용
+    public void setTickRate(int tickRate) {
+        if (tickRate > 0) {
+            this.tickRate = tickRate;
+        }
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    // 마지막 틱 이후 다음 틱까지 얼마나 진행되었는지를 0~1 사이 값으로 반환
+    // 렌더러는 이 값으로 이전 틱과 현재 틱의 위치를 보간하여 틱 레이트보다 높은 주사율에서도 부드럽게 그림
+    public double getInterpolationAlpha() {
+        if (paused) {
+            return 1.0;
+        }
+        double alpha = (double) (System.nanoTime() - lastTickNanos) / tickNanos;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
     public boolean isRunning() {
         return running;
     }
@@ -75,7 +139,7 @@ public class GameController {
     }
 
     // 게임 시작
-    public void startGame(final GroundPanel groundPanel, Difficulty difficulty) {
+    public void startGame(final GameView gameView, Difficulty difficulty) {
         if (running) { // 이미 게임이 실행 중이면 다시 시작하지 않음
             return;
         }
@@ -85,19 +149,45 @@ public class GameController {
         }
         this.currentDifficulty = difficulty;
 
+        // 틱 레이트에 맞춰 틱 길이와 속도 배율 계산
+        this.tickNanos = 1_000_000_000L / tickRate;
+        this.tickScale = (double) BASE_TICK_RATE / tickRate;
+        this.droppedTicks = 0;
+
+        // 난이도에 맞게 분류된 단어에서 생성. 분류는 단어를 추가할 때 이미 끝나 있음
+        Difficulty poolDifficulty = difficulty;
+        if (textRepository.countWords(difficulty) < MIN_DIFFICULTY_WORDS) {
+            poolDifficulty = null; // 전체 단어에서 생성
+        }
+
         running = true; // 게임 실행 상태로 변경
         paused = false; // 일시정지 상태 초기화
-        activeWords.clear(); // 이전 게임의 단어 목록 초기화
+        synchronized (meteors) {
+            meteors.clear(); // 이전 게임의 단어 목록 초기화
+            spawnPool.reset(wordSource(poolDifficulty)); // 사전의 단어를 다시 뽑을 수 있게 함
+            resetTyping();
+            publishSnapshot();
+        }
+        snapshots.resetStats();
+        latency.reset();
         scorePanel.reset(); // 점수 초기화
 
         // 난이도에 따라 초기 단어 생성
         int initialCount = getInitialWordCountByDifficulty(difficulty);
         for (int i = 0; i < initialCount; i++) {
-            spawnWord();
+            if (!spawnWord()) {
+                System.err.println("단어 사전이 부족합니다: 초기 단어 " + initialCount + "개 중 " + i
+                        + "개만 생성 (등록된 단어 " + spawnPool.size() + "개)");
+                break;
+            }
         }
 
+        // 능동 렌더링 뷰라면 렌더링 스레드 시작
+        this.gameView = gameView;
+        gameView.startRendering();
+
         // 별도의 게임 루프 스레드를 시작하여 UI 스레드를 블로킹하지 않음
-        gameLoopThread = new Thread(() -> gameLoop(groundPanel));
+        gameLoopThread = new Thread(() -> gameLoop(gameView));
         gameLoopThread.start();
     }
 
@@ -108,20 +198,158 @@ public class GameController {
             // 스레드가 대기 상태일 경우 InterruptedException을 발생시켜 종료
             gameLoopThread.interrupt();
         }
+        if (gameView != null) {
+            gameView.stopRendering(); // 렌더링 스레드 종료
+        }
+    }
+
+    // 가장 최근에 게시된 월드 스냅샷 반환
+    // 렌더러 전용. 락을 잡거나 단어 목록을 복사하지 않으므로 게임 루프나 입력 처리와 경합하지 않음
+    public WorldSnapshot acquireSnapshot() {
+        return snapshots.acquire();
+    }
+
+    // 현재 단어 목록을 스냅샷으로 게시하고 게시 순번 반환. 반드시 meteors 락을 잡은 상태에서 호출
+    private long publishSnapshot() {
+        int lockOnSlot = findLockOnSlot(); // 별똥별이 움직이거나 사라지면 조준 대상도 바뀌므로 게시할 때마다 다시 고름
+        lockOnTarget = (lockOnSlot >= 0) ? meteors.getText(lockOnSlot) : null;
+        snapshots.back().copyFrom(meteors, lockOnSlot);
+        return snapshots.publish();
+    }
+
+    // 렌더러가 게시 순번 sequence의 스냅샷으로 프레임을 다 그렸을 때 호출 (지연 시간 측정용)
+    public void framePresented(long sequence) {
+        latency.framePresented(sequence);
+    }
+
+    // 게임 화면의 지연 시간 요약 표시 켜기/끄기
+    public void toggleLatencyOverlay() {
+        latencyOverlayVisible = !latencyOverlayVisible;
+    }
+
+    public boolean isLatencyOverlayVisible() {
+        return latencyOverlayVisible;
+    }
+
+    // 단계별 지연 시간 요약 (화면 표시용)
+    public List<String> getLatencyReportLines() {
+        return latency.getReportLines();
     }
 
-    // 현재 활성화된 단어 리스트의 스냅샷 반환
-    // 렌더링 시점에 단어 리스트가 변경되는 것을 방지하기 위해 동기화 블록 사용
-    public List<Word> getActiveWordsSnapshot() {
-        // activeWords 리스트에 대한 동시 접근 제어
-        synchronized (activeWords) {
-            // 현재 상태의 복사본 반환
-            return new ArrayList<Word>(activeWords);
+    // 지연 시간 요약(F3)과 기록 파일(F4)에 한 줄씩 덧붙일 지표 추가. null을 반환하면 건너뜀
+    public void addReportSource(Supplier<String> source) {
+        latency.addReportSource(source);
+    }
+
+    // 단계별 지연 시간 분포를 파일로 저장. 성공하면 저장한 파일의 절대 경로, 실패하면 null
+    public Path dumpLatencyReport(String filePath) {
+        Path path = Path.of(filePath).toAbsolutePath();
+        try {
+            latency.dump(path);
+            return path;
+        } catch (IOException e) {
+            System.err.println("지연 시간 기록 저장 실패: " + e.getMessage());
+            return null;
         }
     }
 
+    // 입력 중인 텍스트가 바뀔 때마다 호출 (증분 매칭)
+    // 이전 텍스트와 같은 앞부분의 트라이 경로는 그대로 두고, 바뀐 글자만큼만 경로를 되돌리거나 내려가므로
+    // 후보 단어를 처음부터 다시 찾지 않음. 후보 중 행성에 가장 가까운 단어를 조준 대상으로 정함
+    public void updateTypedText(String text) {
+        String typed = (text == null) ? "" : text.trim();
+        synchronized (meteors) {
+            if (!running) {
+                resetTyping();
+                return;
+            }
+            // 이전 입력과 공통인 앞부분 길이
+            int common = 0;
+            int limit = Math.min(typed.length(), typedText.length());
+            while (common < limit && typed.charAt(common) == typedText.charAt(common)) {
+                common++;
+            }
+            if (typedPath.length <= typed.length()) {
+                typedPath = Arrays.copyOf(typedPath, Math.max(typed.length() + 1, typedPath.length * 2));
+            }
+            // 공통 부분 이후의 글자만 트라이를 따라 내려감
+            for (int k = common; k < typed.length(); k++) {
+                PrefixTrie.Node node = typedPath[k];
+                typedPath[k + 1] = (node == null) ? null : node.child(typed.charAt(k));
+            }
+            typedText = typed;
+            if (!paused) {
+                publishSnapshot(); // 조준 대상을 다음 틱을 기다리지 않고 바로 화면에 반영
+            }
+        }
+    }
+
+    // 현재 조준 중인 단어. 없으면 null
+    public String getLockOnTarget() {
+        return lockOnTarget;
+    }
+
+    // 증분 매칭 상태 초기화. meteors 락을 잡은 상태에서 호출
+    private void resetTyping() {
+        typedText = "";
+        typedPath[0] = meteors.prefixRoot();
+        lockOnTarget = null;
+    }
+
+    // 입력 중인 접두사로 시작하는 단어 중 행성에 가장 가까운(반지름이 가장 작은) 단어의 슬롯. 없으면 -1
+    private int findLockOnSlot() {
+        if (typedText.isEmpty()) {
+            return -1;
+        }
+        PrefixTrie.Node node = resolveTypedPath();
+        if (node == null) {
+            return -1;
+        }
+        int best = -1;
+        for (int i = 0; i < node.size(); i++) {
+            int slot = meteors.slotOfId(node.idAt(i));
+            if (best < 0 || meteors.getRadius(slot) < meteors.getRadius(best)) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    // 입력 중인 텍스트 전체에 해당하는 트라이 노드. 없으면 null
+    // 입력할 때 없던 접두사도 그 뒤에 생성된 별똥별로 생길 수 있고, 단어가 모두 사라진 노드는 트라이에서 떼어 내므로
+    // 끝 노드가 null이거나 떼어 낸 노드면 아직 트라이에 붙어 있는 가장 깊은 노드부터 다시 내려감
+    // (붙어 있는 노드의 조상은 모두 붙어 있음)
+    private PrefixTrie.Node resolveTypedPath() {
+        int length = typedText.length();
+        if (typedPath[length] != null && !typedPath[length].isDetached()) {
+            return typedPath[length];
+        }
+        int k = length;
+        while (typedPath[k] == null || typedPath[k].isDetached()) {
+            k--; // typedPath[0]은 루트이므로 항상 멈춤
+        }
+        for (; k < length && typedPath[k] != null; k++) {
+            typedPath[k + 1] = typedPath[k].child(typedText.charAt(k));
+        }
+        return typedPath[length];
+    }
+
+    // 게임 중 측정한 락 경합 통계를 문자열로 반환 (지연 시간 요약과 기록 파일에 포함됨)
+    public String getContentionStatsText() {
+        return "스냅샷 획득 " + snapshots.getAcquireCount() + "회"
+                + " (평균 " + snapshots.getAcquireNanosAverage() + "ns, 최대 " + snapshots.getAcquireNanosMax() + "ns, 락 없음)"
+                + ", 입력 처리 락 대기 " + latency.getLockWait().getCount() + "회"
+                + " (최대 " + latency.getLockWait().getMax() + "ns)";
+    }
+
     // 사용자의 입력 텍스트와 일치하는 단어가 있는지 검사
     public void checkInput(String input) {
+        checkInput(input, System.nanoTime());
+    }
+
+    // keyNanos: 입력을 확정한 키 이벤트가 발생한 시각 (System.nanoTime 기준). 지연 시간 측정에 사용
+    public void checkInput(String input, long keyNanos) {
+        long enterNanos = System.nanoTime();
         if (!running || paused) { // 게임이 실행 중이 아니거나 일시정지 상태면 처리하지 않음
             return;
         }
@@ -130,25 +358,28 @@ public class GameController {
         }
 
         String trimmed = input.trim();
-        Word matched = null;
-        
-        synchronized (activeWords) { // 단어 리스트 검색 및 제거 시 동시 접근 제어
-            for (Word word : activeWords) {
-                if (word.getText().equals(trimmed)) {
-                    matched = word;
-                    break;
-                }
-            }
-            if (matched != null) {
-                activeWords.remove(matched); // 일치하는 단어 제거
+        boolean matched = false;
+
+        synchronized (meteors) { // 단어 검색 및 제거 시 동시 접근 제어
+            long lockedNanos = System.nanoTime();
+            latency.recordLockWait(lockedNanos - enterNanos);
+            int slot = meteors.indexOf(trimmed);
+            if (slot >= 0) {
+                meteors.removeAt(slot); // 일치하는 단어 제거
+                spawnPool.giveBack(trimmed); // 화면에서 사라진 단어는 다시 뽑을 수 있음
+                long sequence = publishSnapshot(); // 다음 틱을 기다리지 않고 바로 화면에 반영
+                latency.recordHit(keyNanos, enterNanos, lockedNanos, System.nanoTime(), sequence);
+                matched = true;
             }
         }
 
         // 단어를 맞췄을 경우 점수 증가 및 새 단어 생성
-        if (matched != null) {
+        if (matched) {
             util.SoundManager.playEffect("star-typing.wav"); // 효과음 재생
             scorePanel.increase(getScoreForDifficulty(currentDifficulty)); // 난이도별 점수 획득
-            spawnWord(); // 새로운 단어 생성
+            if (!spawnWord()) { // 새로운 단어 생성
+                System.err.println("단어 사전이 부족하여 새 단어를 생성하지 못했습니다 (등록된 단어 " + spawnPool.size() + "개)");
+            }
         }
     }
 
@@ -160,9 +391,21 @@ public class GameController {
         };
     }
 
-    // 사용자가 새로운 단어 추가
-    public void addWordFromUser(String word) {
-        textRepository.addWord(word);
+    // 사용자가 새로운 단어 추가. 유효하지 않거나 이미 있는 단어면 false
+    // 풀은 리포지토리를 직접 읽으므로 게임 중에 추가된 단어도 현재 난이도에 맞으면 바로 뽑힐 수 있음
+    public boolean addWordFromUser(String word) {
+        return textRepository.addWord(word);
+    }
+
+    // 텍스트 파일의 단어들을 한 번에 가져오고 실제로 추가된 단어 수 반환 (다음 게임부터 등장)
+    // 파일 크기에 따라 오래 걸릴 수 있으므로 EDT가 아닌 작업 스레드에서 호출
+    public int importWordsFromFile(Path file) throws IOException {
+        return textRepository.importWords(file);
+    }
+
+    // 사용자가 등록된 단어 삭제. 삭제했으면 true
+    public boolean removeWordFromUser(String word) {
+        return textRepository.removeWord(word);
     }
 
     // 모든 등록된 단어 목록 반환
@@ -177,9 +420,12 @@ public class GameController {
             return;
         }
 
+        // 저장하기 전에 이 점수의 순위를 미리 보여줌 (같은 점수는 같은 순위)
+        long rank = scoreRepository.rankOf(score);
+        double percentile = scoreRepository.percentile(score);
         String name = JOptionPane.showInputDialog(
                 null,
-                "이름을 입력하세요:",
+                String.format("%d점 - 전체 %d위 (백분위 %.1f)%n이름을 입력하세요:", score, rank, percentile),
                 "점수 저장",
                 JOptionPane.PLAIN_MESSAGE
         );
@@ -196,7 +442,7 @@ public class GameController {
                     JOptionPane.WARNING_MESSAGE
             );
         }
-        ScoreEntry entry = new ScoreEntry(trimmed, score);
+        ScoreEntry entry = new ScoreEntry(trimmed, score, currentDifficulty, System.currentTimeMillis());
         scoreRepository.saveScore(entry); // 리포지토리에 점수 저장
     }
 
@@ -220,53 +466,72 @@ public class GameController {
         return sb.toString();
     }
 
-    // 게임의 메인 루프. 주기적으로 단어 위치를 업데이트하고 화면을 다시 그림
-    private void gameLoop(final GroundPanel groundPanel) {
+    // 게임의 메인 루프. 고정된 시간 간격(틱)마다 단어 위치를 업데이트하고 화면을 다시 그림
+    // System.nanoTime으로 흐른 시간을 누적하여 그만큼 틱을 진행하므로, 스케줄러 지연이나 기기 부하와 관계없이 게임 속도가 일정함
+    private void gameLoop(final GameView gameView) {
+        long frameNanos = 1_000_000_000L / Math.max(1, gameView.getRefreshRate()); // 화면 갱신 간격
+        long previous = System.nanoTime();
+        long accumulator = 0; // 아직 시뮬레이션하지 않은 누적 시간
+        lastTickNanos = previous;
         try {
             while (running) { // running 플래그가 true인 동안 반복
                 // 일시정지 상태 체크
                 if (paused) {
                     synchronized (pauseLock) {
                         // 일시정지 상태면 화면에 PAUSED 표시 등을 위해 한 번 다시 그림
-                        SwingUtilities.invokeLater(() -> {
-                            groundPanel.setPaused(true);
-                            groundPanel.repaint();
-                        });
+                        SwingUtilities.invokeLater(() -> gameView.setPaused(true));
                         while (paused) {
                             pauseLock.wait(); // 일시정지 해제될 때까지 대기
                         }
                         // 일시정지 해제됨
-                        SwingUtilities.invokeLater(() -> groundPanel.setPaused(false));
+                        SwingUtilities.invokeLater(() -> gameView.setPaused(false));
                     }
+                    // 일시정지 동안 흐른 시간은 시뮬레이션하지 않음
+                    previous = System.nanoTime();
+                    accumulator = 0;
+                    lastTickNanos = previous;
+                }
+
+                long now = System.nanoTime();
+                accumulator += now - previous;
+                previous = now;
+
+                // 누적된 시간만큼 고정 간격 틱 진행 (한 번에 최대 MAX_CATCH_UP_TICKS 틱)
+                int ticks = 0;
+                while (running && accumulator >= tickNanos && ticks < MAX_CATCH_UP_TICKS) {
+                    updateWords(); // 단어 위치 및 상태 업데이트
+                    accumulator -= tickNanos;
+                    ticks++;
+                }
+                if (accumulator >= tickNanos) {
+                    // 따라잡기 한도를 넘은 지연은 버림 (그만큼 게임이 잠시 느려짐)
+                    droppedTicks += accumulator / tickNanos;
+                    accumulator %= tickNanos;
+                }
+                if (ticks > 0) {
+                    lastTickNanos = now - accumulator; // 현재 상태가 해당하는 시뮬레이션 시각
                 }
 
-                updateWords(); // 단어 위치 및 상태 업데이트
-                // UI 업데이트는 반드시 EDT에서 이루어져야 하므로 SwingUtilities.invokeLater 사용
-                // 프로젝트 하면서 새롭게 배운 메서드 참조 문법 사용
-                SwingUtilities.invokeLater(groundPanel::repaint);
+                // 새 프레임 요청. 수동 렌더링이면 EDT에서 repaint되고, 능동 렌더링이면 렌더링 스레드가 스스로 그림
+                gameView.requestFrame();
 
-                Thread.sleep(16); // 약 60FPS를 유지하기 위한 대기 (1000ms / 60프레임 ≈ 16.6ms)
+                // 다음 틱과 다음 프레임 중 빠른 쪽까지 대기
+                long waitNanos = Math.min(tickNanos - accumulator, frameNanos);
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
             }
         } catch (InterruptedException e) {
             // 스레드가 interrupt되면 루프 종료
-            System.out.println("게임 루프 스레드 종료");
         }
     }
 
     // 모든 단어의 위치를 업데이트하고 충돌 여부 확인
     private void updateWords() {
-        synchronized (activeWords) { // 단어 리스트 접근 시 동시성 제어
-            double decaySpeed = getDecaySpeedByDifficulty(currentDifficulty); // 난이도에 따른 감소 속도
-            boolean crashed = false;
-            for (Word w : activeWords) {
-                w.decreaseRadius(decaySpeed); // 플레이어를 향해 다가오게 함
-                w.updatePosition(orbitCenterX, orbitCenterY); // 현재 궤도 중심에 따라 위치 업데이트
-
-                // 플레이어(행성)와 충돌했는지 확인
-                if (w.getRadius() <= playerCollisionRadius) {
-                    crashed = true;
-                }
-            }
+        synchronized (meteors) { // 단어 저장소 접근 시 동시성 제어
+            double decaySpeed = getDecaySpeedByDifficulty(currentDifficulty) * tickScale; // 난이도에 따른 감소 속도 (1틱 기준)
+            // 모든 별똥별을 플레이어를 향해 다가오게 하고 현재 궤도 중심에 따라 위치 업데이트
+            // 플레이어(행성)와 충돌한 별똥별이 있으면 true
+            boolean crashed = meteors.update(decaySpeed, orbitCenterX, orbitCenterY, playerCollisionRadius);
+            publishSnapshot(); // 갱신된 위치를 렌더러에게 게시
             if (crashed) {
                 handleGameOver(); // 충돌 발생 시 게임 오버 처리
             }
@@ -287,32 +552,38 @@ public class GameController {
     }
 
     // 새 단어 생성 및 화면에 추가
-    private void spawnWord() {
-        String text;
-        boolean isDuplicate;
-        
-        // 중복되지 않는 단어를 찾을 때까지 반복
-        do {
-            text = textRepository.getRandomWord();
-            isDuplicate = false;
-            synchronized (activeWords) {
-                for (Word w : activeWords) {
-                    if (w.getText().equals(text)) {
-                        isDuplicate = true;
-                        break;
-                    }
-                }
+    // 리포지토리의 해당 난이도 단어(null이면 전체 단어)를 번호로 읽는 생성 풀 원본
+    private SpawnPool.Source wordSource(Difficulty difficulty) {
+        return new SpawnPool.Source() {
+            @Override
+            public int size() {
+                return textRepository.countWords(difficulty);
             }
-        } while (isDuplicate);
 
+            @Override
+            public String wordAt(int index) {
+                return textRepository.wordAt(difficulty, index);
+            }
+        };
+    }
+
+    // 화면에 없는 단어가 남아 있지 않아 생성하지 못하면 false 반환
+    private boolean spawnWord() {
         double radius = getRadiusByDifficulty(currentDifficulty); // 난이도별 초기 생성 거리
         double angle = Math.random() * Math.PI * 2; // 랜덤한 초기 각도
-        double angularSpeed = getAngularSpeedByDifficulty(currentDifficulty); // 난이도별 각속도
+        double angularSpeed = getAngularSpeedByDifficulty(currentDifficulty) * tickScale; // 난이도별 각속도 (1틱 기준)
 
-        Word word = new Word(text, radius, angle, angularSpeed);
-        synchronized (activeWords) { // 단어 리스트에 추가 시 동시성 제어
-            activeWords.add(word);
+        synchronized (meteors) { // 단어 저장소에 추가 시 동시성 제어
+            // 풀은 화면에 없는 단어만 내주므로 중복 검사를 위해 다시 뽑을 필요가 없음
+            String text = spawnPool.take();
+            if (text == null) {
+                return false;
+            }
+            // 첫 틱 전에도 올바른 위치에 그려지도록 현재 궤도 중심 기준으로 초기 좌표가 계산됨
+            meteors.add(text, radius, angle, angularSpeed, orbitCenterX, orbitCenterY);
+            publishSnapshot();
         }
+        return true;
     }
 
     public void setOrbitCenter(int x, int y) {
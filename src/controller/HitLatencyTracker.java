@@ -0,0 +1,156 @@
+package controller;
+
+import util.LatencyHistogram;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+// 단어를 맞췄을 때 키 입력부터 별똥별이 사라진 첫 프레임이 그려지기까지의 지연 시간을 단계별로 측정
+//   EDT 대기: 키 이벤트 발생 -> checkInput 진입 (이벤트 큐에서 기다린 시간)
+//   락 대기: checkInput 진입 -> 별똥별 저장소 락 획득
+//   월드 갱신: 락 획득 -> 일치 판정, 제거 후 스냅샷 게시
+//   렌더링: 스냅샷 게시 -> 그 스냅샷(또는 이후 스냅샷)으로 그린 첫 프레임 완료
+//   전체: 키 이벤트 발생 -> 첫 프레임 완료
+// 다른 지표(락 경합, 렌더링, 점수 쓰기 등)도 addReportSource로 붙이면 같은 요약과 파일에 함께 나옴
+public class HitLatencyTracker {
+
+    private static final long REPORT_REFRESH_NANOS = 250_000_000L; // 화면 표시용 요약 갱신 간격
+
+    private final LatencyHistogram edtQueue = new LatencyHistogram();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LatencyHistogram worldUpdate = new LatencyHistogram();
+    private final LatencyHistogram render = new LatencyHistogram();
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    // 스냅샷은 게시되었지만 아직 화면에 그려지지 않은 적중 기록 (게시 순번 순서)
+    private final ConcurrentLinkedQueue<PendingHit> pending = new ConcurrentLinkedQueue<>();
+
+    // 요약 끝에 덧붙일 다른 지표. null을 반환하면 건너뜀
+    private final List<Supplier<String>> reportSources = new CopyOnWriteArrayList<>();
+
+    private volatile List<String> cachedReport = new ArrayList<>();
+    private volatile long cachedReportNanos = 0;
+
+    private static final class PendingHit {
+        final long keyNanos;
+        final long publishedNanos;
+        final long sequence;
+
+        PendingHit(long keyNanos, long publishedNanos, long sequence) {
+            this.keyNanos = keyNanos;
+            this.publishedNanos = publishedNanos;
+            this.sequence = sequence;
+        }
+    }
+
+    // 입력 처리 시 락을 얻기까지 기다린 시간 기록 (적중 여부와 무관하게 모든 입력)
+    void recordLockWait(long nanos) {
+        lockWait.record(nanos);
+    }
+
+    // 적중 시 입력 처리 단계별 시각 기록. 렌더링 단계는 framePresented에서 마무리됨
+    void recordHit(long keyNanos, long enterNanos, long lockedNanos, long publishedNanos, long sequence) {
+        edtQueue.record(enterNanos - keyNanos);
+        worldUpdate.record(publishedNanos - lockedNanos);
+        pending.add(new PendingHit(keyNanos, publishedNanos, sequence));
+    }
+
+    // 렌더러가 게시 순번 sequence의 스냅샷으로 프레임을 다 그렸을 때 호출 (렌더링 스레드 하나에서만 호출)
+    void framePresented(long sequence) {
+        PendingHit hit = pending.peek();
+        if (hit == null) {
+            return; // 대부분의 프레임은 여기서 끝남
+        }
+        long now = System.nanoTime();
+        while (hit != null && hit.sequence <= sequence) {
+            pending.poll();
+            render.record(now - hit.publishedNanos);
+            total.record(now - hit.keyNanos);
+            hit = pending.peek();
+        }
+    }
+
+    public void reset() {
+        pending.clear();
+        edtQueue.reset();
+        lockWait.reset();
+        worldUpdate.reset();
+        render.reset();
+        total.reset();
+    }
+
+    public LatencyHistogram getLockWait() {
+        return lockWait;
+    }
+
+    // 요약과 파일 끝에 한 줄씩 덧붙일 지표 추가
+    public void addReportSource(Supplier<String> source) {
+        reportSources.add(source);
+    }
+
+    // 화면 표시용 단계별 요약. 매 프레임 문자열을 만들지 않도록 일정 간격으로만 갱신
+    public List<String> getReportLines() {
+        long now = System.nanoTime();
+        if (now - cachedReportNanos >= REPORT_REFRESH_NANOS) {
+            List<String> lines = new ArrayList<>();
+            lines.add("전체      " + total.summary());
+            lines.add("EDT 대기  " + edtQueue.summary());
+            lines.add("락 대기   " + lockWait.summary());
+            lines.add("월드 갱신 " + worldUpdate.summary());
+            lines.add("렌더링    " + render.summary());
+            addSourceLines(lines);
+            cachedReport = lines;
+            cachedReportNanos = now;
+        }
+        return cachedReport;
+    }
+
+    // 요약과 구간별 분포를 파일로 저장
+    public void dump(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# 입력 지연 시간 기록 " + LocalDateTime.now());
+            writer.newLine();
+            writeSection(writer, "total", total);
+            writeSection(writer, "edt-queue", edtQueue);
+            writeSection(writer, "lock-wait", lockWait);
+            writeSection(writer, "world-update", worldUpdate);
+            writeSection(writer, "render", render);
+            List<String> lines = new ArrayList<>();
+            addSourceLines(lines);
+            if (!lines.isEmpty()) {
+                writer.newLine();
+                writer.write("[metrics]");
+                writer.newLine();
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private void addSourceLines(List<String> lines) {
+        for (Supplier<String> source : reportSources) {
+            String line = source.get();
+            if (line != null) {
+                lines.add(line);
+            }
+        }
+    }
+
+    private void writeSection(BufferedWriter writer, String name, LatencyHistogram histogram) throws IOException {
+        writer.newLine();
+        writer.write("[" + name + "] " + histogram.summary());
+        writer.newLine();
+        writer.write(histogram.bucketsText());
+    }
+}
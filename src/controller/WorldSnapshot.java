@@ -0,0 +1,91 @@
+package controller;
+
+import data.MeteorStore;
+
+import java.util.Arrays;
+
+// 한 틱 시점의 월드 상태(화면에 떠 있는 별똥별의 단어와 좌표)를 담는 스냅샷
+// 시뮬레이션이 채워서 WorldSnapshotBuffer로 게시한 뒤에는 렌더러만 읽으며 수정되지 않음
+// 배열은 버퍼 교체 시 재사용되므로 틱마다 새로 할당하지 않음
+public class WorldSnapshot {
+
+    private int count = 0;
+    private String[] texts = new String[16];
+    private int[] prevX = new int[16]; // 직전 틱의 좌표 (렌더링 보간에 사용)
+    private int[] prevY = new int[16];
+    private int[] x = new int[16];     // 현재 틱의 좌표
+    private int[] y = new int[16];
+    private int lockOnIndex = -1;      // 조준(lock-on) 중인 별똥별의 인덱스. 없으면 -1
+    private long sequence = 0;         // 게시 순번. 게시될 때마다 1씩 증가
+
+    // 게시 이후 아직 렌더러가 가져가지 않았는지 여부
+    // 게시/획득이 모두 AtomicReference를 거치므로 그 순서에 따라 가시성이 보장됨
+    boolean fresh = false;
+
+    public int size() {
+        return count;
+    }
+
+    public String getText(int i) {
+        return texts[i];
+    }
+
+    public int getX(int i) {
+        return x[i];
+    }
+
+    public int getY(int i) {
+        return y[i];
+    }
+
+    // 직전 틱과 현재 틱 사이를 alpha(0~1) 비율로 보간한 렌더링 좌표
+    public int getRenderX(int i, double alpha) {
+        return prevX[i] + (int) Math.round((x[i] - prevX[i]) * alpha);
+    }
+
+    public int getRenderY(int i, double alpha) {
+        return prevY[i] + (int) Math.round((y[i] - prevY[i]) * alpha);
+    }
+
+    // 입력 중인 접두사로 조준 중인 별똥별의 인덱스. 없으면 -1
+    public int getLockOnIndex() {
+        return lockOnIndex;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    // 별똥별 저장소의 현재 상태를 복사. 호출하는 쪽에서 저장소의 락을 잡고 있어야 함
+    // 배열이 충분히 크면 새로 할당하지 않음
+    void copyFrom(MeteorStore meteors, int lockOnIndex) {
+        int n = meteors.size();
+        ensureCapacity(n);
+        meteors.copyPositions(prevX, prevY, x, y);
+        for (int i = 0; i < n; i++) {
+            texts[i] = meteors.getText(i);
+        }
+        // 이전에 더 많은 단어가 있었다면 남은 참조를 지워 사라진 단어가 붙잡혀 있지 않게 함
+        if (n < count) {
+            Arrays.fill(texts, n, count, null);
+        }
+        count = n;
+        this.lockOnIndex = lockOnIndex;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= texts.length) {
+            return;
+        }
+        int capacity = Math.max(n, texts.length * 2);
+        texts = Arrays.copyOf(texts, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+    }
+}
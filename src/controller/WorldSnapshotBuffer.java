@@ -0,0 +1,70 @@
+package controller;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 시뮬레이션이 만든 월드 스냅샷을 렌더러에게 잠금 없이 전달하는 버퍼
+// 게시 측(back), 렌더러 측(front), 그리고 둘 사이에서 교환되는 최신 스냅샷(middle) 세 개를 돌려 쓰며
+// middle만 AtomicReference 하나로 교환하므로 양쪽 모두 락을 잡거나 목록을 복사하지 않음
+// 게시는 한 번에 한 스레드(월드 락을 잡은 스레드)만, 획득은 렌더링 스레드 하나만 한다고 가정
+public class WorldSnapshotBuffer {
+
+    private final AtomicReference<WorldSnapshot> middle = new AtomicReference<>(new WorldSnapshot());
+    private WorldSnapshot back = new WorldSnapshot();  // 게시 측이 채우는 스냅샷
+    private WorldSnapshot front = new WorldSnapshot(); // 렌더러가 읽는 스냅샷
+    private long sequence = 0;
+
+    // 렌더러의 스냅샷 획득 시간 측정값 (렌더러 스레드에서만 갱신)
+    private volatile long acquireCount = 0;
+    private volatile long acquireNanosTotal = 0;
+    private volatile long acquireNanosMax = 0;
+
+    // 게시 측이 채워 넣을 스냅샷
+    WorldSnapshot back() {
+        return back;
+    }
+
+    // 채워 넣은 스냅샷을 최신 스냅샷으로 게시하고, 교환되어 나온 스냅샷을 다음에 채울 용도로 받음
+    // 게시한 스냅샷의 순번 반환
+    long publish() {
+        long published = ++sequence;
+        back.setSequence(published);
+        back.fresh = true;
+        back = middle.getAndSet(back);
+        return published;
+    }
+
+    // 가장 최근에 게시된 스냅샷 반환. 새로 게시된 것이 없으면 지난번 스냅샷을 그대로 반환
+    public WorldSnapshot acquire() {
+        long start = System.nanoTime();
+        if (middle.get().fresh) {
+            front = middle.getAndSet(front);
+            front.fresh = false;
+        }
+        long elapsed = System.nanoTime() - start;
+        acquireCount++;
+        acquireNanosTotal += elapsed;
+        if (elapsed > acquireNanosMax) {
+            acquireNanosMax = elapsed;
+        }
+        return front;
+    }
+
+    public void resetStats() {
+        acquireCount = 0;
+        acquireNanosTotal = 0;
+        acquireNanosMax = 0;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    public long getAcquireNanosMax() {
+        return acquireNanosMax;
+    }
+
+    public long getAcquireNanosAverage() {
+        long count = acquireCount;
+        return count == 0 ? 0 : acquireNanosTotal / count;
+    }
+}
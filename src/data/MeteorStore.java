@@ -0,0 +1,227 @@
+package data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 화면에 떠 있는 별똥별(단어)들을 구조체 배열(Structure of Arrays) 형태로 저장하는 저장소
+// 별똥별마다 객체를 만드는 대신 반지름, 각도, 좌표 등을 속성별 기본형 배열에 나란히 저장하므로
+// 매 틱 갱신 시 객체나 Iterator를 만들지 않고 연속된 메모리를 순서대로 훑음
+// 단어 텍스트 -> 슬롯의 해시 색인과 접두사 트라이를 함께 유지하여 일치 검사, 중복 검사, 접두사 검색을 바로 처리함
+// 화면에 같은 단어가 두 개 떠 있을 수 없음
+// 스레드 안전하지 않으므로 사용하는 쪽에서 이 객체를 락으로 사용하여 동기화해야 함
+public class MeteorStore {
+
+    private static final double TWO_PI = Math.PI * 2;
+
+    private int count = 0; // 현재 별똥별 수. 0 ~ count-1 번 슬롯이 사용 중
+
+    // 원형 궤도 관련 값
+    private double[] radius;       // 궤도 중심으로부터의 거리
+    private double[] angle;        // 현재 각도 (라디안)
+    private double[] angularSpeed; // 궤도를 도는 속도 (1틱당 각도 변화량)
+
+    // 화면에서의 실제 렌더링 좌표 (현재 틱과 직전 틱)
+    private int[] x;
+    private int[] y;
+    private int[] prevX;
+    private int[] prevY;
+
+    // 단어 텍스트는 id로 저장. 같은 단어는 같은 id를 재사용하며, 텍스트 테이블은 생성 시에만 커짐
+    private int[] textId;
+    private String[] textTable = new String[16];
+    private int textTableSize = 0;
+    private final Map<String, Integer> idByText = new HashMap<>();
+
+    // 색인: 텍스트 id -> 현재 슬롯 (화면에 없으면 -1), 그리고 화면에 있는 단어들의 접두사 트라이
+    private int[] slotById = new int[16];
+    private final PrefixTrie prefixIndex = new PrefixTrie();
+
+    public MeteorStore() {
+        this(16);
+    }
+
+    public MeteorStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        radius = new double[capacity];
+        angle = new double[capacity];
+        angularSpeed = new double[capacity];
+        x = new int[capacity];
+        y = new int[capacity];
+        prevX = new int[capacity];
+        prevY = new int[capacity];
+        textId = new int[capacity];
+        Arrays.fill(slotById, -1);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // 모든 별똥별 제거 (텍스트 테이블은 다음 게임에서도 재사용)
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            int id = textId[i];
+            slotById[id] = -1;
+            prefixIndex.remove(textTable[id], id);
+        }
+        count = 0;
+    }
+
+    // 새 별똥별 추가. 궤도 중심 (centerX, centerY) 기준으로 초기 좌표를 계산하여 첫 틱 전에도 올바른 위치에 그려지게 함
+    // 추가된 슬롯 번호 반환. 같은 단어가 이미 화면에 있으면 추가하지 않고 -1 반환
+    public int add(String text, double radius, double angle, double angularSpeed, int centerX, int centerY) {
+        int id = internText(text);
+        if (slotById[id] >= 0) {
+            return -1;
+        }
+        ensureCapacity(count + 1);
+        int i = count++;
+        this.radius[i] = radius;
+        this.angle[i] = angle;
+        this.angularSpeed[i] = angularSpeed;
+        this.textId[i] = id;
+        slotById[id] = i;
+        prefixIndex.insert(text, id);
+        x[i] = centerX + (int) (radius * Math.cos(angle));
+        y[i] = centerY + (int) (radius * Math.sin(angle));
+        prevX[i] = x[i];
+        prevY[i] = y[i];
+        return i;
+    }
+
+    // 지정한 슬롯의 별똥별 제거. 마지막 슬롯의 별똥별을 빈자리로 옮기므로(swap-remove) 슬롯 순서는 바뀔 수 있음
+    public void removeAt(int i) {
+        int id = textId[i];
+        slotById[id] = -1;
+        prefixIndex.remove(textTable[id], id);
+
+        int last = --count;
+        if (i != last) {
+            radius[i] = radius[last];
+            angle[i] = angle[last];
+            angularSpeed[i] = angularSpeed[last];
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            textId[i] = textId[last];
+            slotById[textId[i]] = i; // 옮겨진 별똥별의 색인 갱신
+        }
+    }
+
+    // 텍스트가 같은 별똥별의 슬롯 번호 반환 (해시 색인, O(1)). 없으면 -1
+    public int indexOf(String text) {
+        Integer id = idByText.get(text);
+        return (id == null) ? -1 : slotById[id];
+    }
+
+    public boolean contains(String text) {
+        return indexOf(text) >= 0;
+    }
+
+    // 입력한 접두사로 시작하는 화면 위 단어들의 트라이 노드. 그런 단어가 없으면 null
+    // 노드의 id는 slotOfId / textOfId로 슬롯과 텍스트로 변환
+    public PrefixTrie.Node findPrefix(String prefix) {
+        return prefixIndex.find(prefix);
+    }
+
+    // 접두사 검색의 시작점 (빈 접두사, 화면의 모든 단어)
+    public PrefixTrie.Node prefixRoot() {
+        return prefixIndex.root();
+    }
+
+    // 텍스트 id의 현재 슬롯. 화면에 없으면 -1
+    public int slotOfId(int id) {
+        return slotById[id];
+    }
+
+    public String textOfId(int id) {
+        return textTable[id];
+    }
+
+    // 모든 별똥별을 한 틱만큼 진행
+    // 반지름을 decay만큼 줄여 중심으로 접근시키고, 각속도만큼 회전시킨 뒤 화면 좌표를 다시 계산
+    // 어느 별똥별이든 collisionRadius 안으로 들어오면 true 반환 (충돌)
+    public boolean update(double decay, int centerX, int centerY, double collisionRadius) {
+        boolean crashed = false;
+        for (int i = 0; i < count; i++) {
+            double r = radius[i] - decay;
+            if (r < 0) {
+                r = 0;
+            }
+            radius[i] = r;
+
+            double a = angle[i] + angularSpeed[i];
+            if (a > TWO_PI) {
+                a -= TWO_PI;
+            }
+            angle[i] = a;
+
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] = centerX + (int) (r * Math.cos(a));
+            y[i] = centerY + (int) (r * Math.sin(a));
+
+            if (r <= collisionRadius) {
+                crashed = true;
+            }
+        }
+        return crashed;
+    }
+
+    public String getText(int i) {
+        return textTable[textId[i]];
+    }
+
+    public double getRadius(int i) {
+        return radius[i];
+    }
+
+    public int getX(int i) {
+        return x[i];
+    }
+
+    public int getY(int i) {
+        return y[i];
+    }
+
+    // 좌표 배열을 dest 배열들로 한 번에 복사 (스냅샷 게시용). dest 배열은 size() 이상이어야 함
+    public void copyPositions(int[] destPrevX, int[] destPrevY, int[] destX, int[] destY) {
+        System.arraycopy(prevX, 0, destPrevX, 0, count);
+        System.arraycopy(prevY, 0, destPrevY, 0, count);
+        System.arraycopy(x, 0, destX, 0, count);
+        System.arraycopy(y, 0, destY, 0, count);
+    }
+
+    // 단어 텍스트를 id로 변환. 처음 보는 단어면 테이블에 추가
+    private int internText(String text) {
+        Integer id = idByText.get(text);
+        if (id != null) {
+            return id;
+        }
+        if (textTableSize == textTable.length) {
+            textTable = Arrays.copyOf(textTable, textTableSize * 2);
+            slotById = Arrays.copyOf(slotById, textTableSize * 2);
+            Arrays.fill(slotById, textTableSize, slotById.length, -1);
+        }
+        textTable[textTableSize] = text;
+        idByText.put(text, textTableSize);
+        return textTableSize++;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= radius.length) {
+            return;
+        }
+        int capacity = Math.max(n, radius.length * 2);
+        radius = Arrays.copyOf(radius, capacity);
+        angle = Arrays.copyOf(angle, capacity);
+        angularSpeed = Arrays.copyOf(angularSpeed, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        textId = Arrays.copyOf(textId, capacity);
+    }
+}
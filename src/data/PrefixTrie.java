@@ -0,0 +1,160 @@
+package data;
+
+import java.util.Arrays;
+
+// 현재 화면에 떠 있는 단어들의 접두사 트라이
+// 각 노드는 "지금까지의 경로를 접두사로 가지는 단어"들의 id 목록을 가지고 있으므로
+// 입력한 접두사로 시작하는 단어들을 접두사 길이만큼만 내려가서 바로 얻을 수 있음
+// id마다 경로상 각 깊이의 노드에서의 위치를 기록해 두므로, 제거는 노드마다 O(1) (마지막 id를 빈자리로 옮김)
+// 단어가 없어진 노드는 트라이에서 떼어 내고 isDetached()로 표시함. 한 번 얻은 노드를 계속 쓰는 쪽은
+// 떼어 낸 노드인지 확인하고 다시 찾아야 함 (같은 접두사의 단어가 다시 생기면 새 노드가 만들어짐)
+// 스레드 안전하지 않으므로 사용하는 쪽에서 동기화해야 함
+public class PrefixTrie {
+
+    private final Node root = new Node(null, '\0');
+
+    // positions[id][d]: id의 단어 경로에서 깊이 d인 노드의 id 목록 안 위치 (트라이에 없는 id는 null)
+    private int[][] positions = new int[16][];
+
+    // 트라이 노드. 자식은 문자 배열과 노드 배열에 나란히 저장 (문자 박싱 없이 탐색)
+    public static final class Node {
+        private final Node parent;
+        private final char key;
+        private boolean detached = false;
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount = 0;
+
+        private int[] ids = new int[2]; // 이 노드의 접두사로 시작하는 단어 id 목록
+        private int size = 0;
+
+        private Node(Node parent, char key) {
+            this.parent = parent;
+            this.key = key;
+        }
+
+        // 문자 c로 이어지는 자식 노드. 없으면 null
+        public Node child(char c) {
+            for (int i = 0; i < childCount; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        // 이 접두사로 시작하는 단어 수
+        public int size() {
+            return size;
+        }
+
+        // i번째 단어 id
+        public int idAt(int i) {
+            return ids[i];
+        }
+
+        // 단어가 모두 제거되어 트라이에서 떼어 낸 노드인지 (루트는 떼어 내지 않음)
+        public boolean isDetached() {
+            return detached;
+        }
+
+        private Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child != null) {
+                return child;
+            }
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            child = new Node(this, c);
+            keys[childCount] = c;
+            children[childCount] = child;
+            childCount++;
+            return child;
+        }
+
+        // 자식 목록에서 c로 이어지는 자식을 뺌. 순서는 상관없으므로 마지막 자식으로 덮어씀
+        private void removeChild(char c) {
+            for (int i = 0; i < childCount; i++) {
+                if (keys[i] == c) {
+                    childCount--;
+                    keys[i] = keys[childCount];
+                    children[i] = children[childCount];
+                    children[childCount] = null;
+                    return;
+                }
+            }
+        }
+
+        // id를 목록 끝에 추가하고 그 위치를 반환
+        private int addId(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size] = id;
+            return size++;
+        }
+    }
+
+    // 빈 접두사에 해당하는 루트 노드 (모든 단어 포함)
+    public Node root() {
+        return root;
+    }
+
+    // 단어 추가. 경로상의 모든 노드에 id를 등록하고 각 노드에서의 위치를 기록
+    public void insert(String text, int id) {
+        if (id >= positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(id + 1, positions.length * 2));
+        }
+        int[] path = new int[text.length() + 1];
+        Node node = root;
+        path[0] = node.addId(id);
+        for (int i = 0; i < text.length(); i++) {
+            node = node.childOrCreate(text.charAt(i));
+            path[i + 1] = node.addId(id);
+        }
+        positions[id] = path;
+    }
+
+    // 단어 제거. 경로상의 모든 노드에서 기록해 둔 위치의 id를 마지막 id로 덮어쓰고(O(1)),
+    // 비게 된 노드는 아래쪽부터 떼어 냄
+    public void remove(String text, int id) {
+        int[] path = (id < positions.length) ? positions[id] : null;
+        if (path == null) {
+            return;
+        }
+        positions[id] = null;
+        Node node = root;
+        for (int depth = 0; ; depth++) {
+            int i = path[depth];
+            int last = node.ids[--node.size];
+            if (last != id) {
+                node.ids[i] = last;
+                positions[last][depth] = i; // 옮겨진 id의 이 깊이에서의 위치 갱신
+            }
+            Node child = (depth < text.length()) ? node.child(text.charAt(depth)) : null;
+            if (child == null) {
+                break;
+            }
+            node = child;
+        }
+        // 경로의 끝에서부터 비어 있는 노드를 부모에서 떼어 냄 (조상은 자손의 id를 모두 가지므로 빈 노드는 끝쪽에만 있음)
+        while (node != root && node.size == 0) {
+            node.parent.removeChild(node.key);
+            node.detached = true;
+            node = node.parent;
+        }
+    }
+
+    // 접두사에 해당하는 노드. 그런 접두사를 가진 단어가 없으면 null
+    public Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+}
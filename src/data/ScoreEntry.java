@@ -1,15 +1,25 @@
 package data;
 
+import difficulty.Difficulty;
+
 // 게임 점수 정보를 저장하는 불변 클래스
-// 플레이어 이름과 점수를 포함하며, 점수 비교를 위해 Comparable 구현
+// 플레이어 이름과 점수, 플레이한 난이도와 기록 시각을 포함하며, 점수 비교를 위해 Comparable 구현
 public class ScoreEntry implements Comparable<ScoreEntry> {
 
     private final String playerName;
     private final int score;
+    private final Difficulty difficulty; // 플레이한 난이도. 알 수 없으면 null (이전 형식에서 옮겨 온 기록 등)
+    private final long timestamp;        // 기록 시각 (epoch 밀리초). 알 수 없으면 0
 
     public ScoreEntry(String playerName, int score) {
+        this(playerName, score, null, 0L);
+    }
+
+    public ScoreEntry(String playerName, int score, Difficulty difficulty, long timestamp) {
         this.playerName = playerName;
         this.score = score;
+        this.difficulty = difficulty;
+        this.timestamp = timestamp;
     }
 
     public String getPlayerName() {
@@ -20,9 +30,17 @@ public class ScoreEntry implements Comparable<ScoreEntry> {
         return score;
     }
 
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
     @Override
     public int compareTo(ScoreEntry other) {
         // 점수 내림차순 정렬을 위해 비교
         return Integer.compare(other.score, this.score);
     }
-}
\ No newline at end of file
+}
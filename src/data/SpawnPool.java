@@ -0,0 +1,98 @@
+package data;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// 새로 생성할 별똥별 단어를 뽑는 풀 (비복원 추출)
+// 단어 사전에서 현재 화면에 떠 있는 단어를 뺀 나머지 중에서 균등하게 하나를 뽑음
+// 사전을 복사해 두지 않고 Source에서 번호로 단어 하나씩만 읽으므로, 사전 크기와 관계없이 힙 사용량은
+// 화면에 떠 있는 단어 수에 비례함 (메모리 매핑된 수백만 단어 사전도 그대로 사용)
+// 화면에 있는 단어가 전체의 절반보다 적으면 무작위 번호를 골라 화면에 있는 단어면 다시 고르고(기각 표집, 평균 2회 이하),
+// 그보다 많으면(사전이 아주 작을 때) 남은 단어를 모아서 고름
+// Source는 읽을 때마다 현재 사전을 보여 주므로, 게임 중에 추가된 단어도 바로 뽑힐 수 있음
+// 스레드 안전하지 않으므로 사용하는 쪽에서 동기화해야 함
+public class SpawnPool {
+
+    private static final int MAX_ATTEMPTS = 32; // 기각 표집 시도 횟수. 넘으면 남은 단어를 모아서 고름
+
+    // 풀이 단어를 읽어 오는 곳
+    public interface Source {
+        // 전체 단어 수
+        int size();
+
+        // index번째 단어. 그사이 사전이 바뀌어 범위를 벗어나면 null
+        String wordAt(int index);
+    }
+
+    private static final Source EMPTY = new Source() {
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public String wordAt(int index) {
+            return null;
+        }
+    };
+
+    private final Random random = new Random();
+
+    private Source source = EMPTY;
+    private final Set<String> taken = new HashSet<>(); // 뽑혀서 지금 화면에 있는 단어
+
+    // 단어를 읽어 올 곳을 바꾸고, 모든 단어를 뽑을 수 있는 상태로 되돌림
+    public void reset(Source source) {
+        this.source = (source == null) ? EMPTY : source;
+        taken.clear();
+    }
+
+    // 뽑을 수 있는 단어 중 하나를 무작위로 뽑음. 모두 뽑혀서 남은 단어가 없으면 null
+    public String take() {
+        int size = source.size();
+        if (size <= taken.size()) {
+            return null;
+        }
+        if (taken.size() * 2 < size) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                String word = source.wordAt(random.nextInt(size));
+                if (word != null && !word.isEmpty() && taken.add(word)) {
+                    return word;
+                }
+            }
+        }
+        // 남은 단어가 적으면 기각이 잦으므로 남은 단어를 모아서 고름
+        // (사전에 같은 단어가 아주 많이 겹친 경우가 아니면 size가 화면 단어 수의 두 배 이하일 때만 여기에 옴)
+        List<String> remaining = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String word = source.wordAt(i);
+            if (word != null && !word.isEmpty() && !taken.contains(word)) {
+                remaining.add(word);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return null;
+        }
+        String word = remaining.get(random.nextInt(remaining.size()));
+        taken.add(word);
+        return word;
+    }
+
+    // 뽑았던 단어를 다시 뽑을 수 있게 돌려놓음 (화면에서 사라진 단어). 뽑힌 적 없는 단어면 무시
+    public void giveBack(String word) {
+        taken.remove(word);
+    }
+
+    // 지금 뽑을 수 있는 단어 수 (사전에 같은 단어가 여러 번 있으면 그만큼 더 셈)
+    public int available() {
+        return Math.max(0, source.size() - taken.size());
+    }
+
+    // 풀에 등록된 전체 단어 수
+    public int size() {
+        return source.size();
+    }
+}
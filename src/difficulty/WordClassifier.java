@@ -0,0 +1,108 @@
+package difficulty;
+
+// 단어를 입력하기 어려운 정도에 따라 난이도로 분류하는 클래스
+// 단어를 두벌식/QWERTY 자판의 키 입력 순서로 바꾼 뒤 다음 요소로 점수를 매김
+//   길이: 눌러야 하는 키 수 (한글은 음절을 자모로 풀어서 셈. 겹받침, 이중 모음일수록 키가 많음)
+//   Shift: 대문자, 된소리(ㄲㄸㅃㅆㅉ), ㅒ/ㅖ, 기호처럼 Shift를 함께 눌러야 하는 키 수
+//   드문 문자: 자주 쓰지 않는 영문자(q, z, x, j), 숫자, 기호, 자판에 없는 문자
+//   손가락 이동 거리: 연속한 두 키 사이의 자판 위 거리 합
+// 단어를 추가할 때 한 번만 분류하고, 생성할 때마다 다시 계산하지 않도록 저장소에서 분류 결과를 유지함
+public class WordClassifier {
+
+    private static final double EASY_MAX_SCORE = 11.0;   // 이 점수 이하는 EASY
+    private static final double NORMAL_MAX_SCORE = 18.0; // 이 점수 이하는 NORMAL, 초과는 HARD
+
+    private static final double SHIFT_WEIGHT = 1.0;
+    private static final double RARE_WEIGHT = 2.0;
+    private static final double TRAVEL_WEIGHT = 0.3;
+
+    // 한글 음절 분해용 상수
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 두벌식 자판에서 초성, 중성, 종성 자모를 입력하는 QWERTY 키 (대문자는 Shift)
+    private static final String[] CHO_KEYS = {
+            "r", "R", "s", "e", "E", "f", "a", "q", "Q", "t", "T", "d", "w", "W", "c", "z", "x", "v", "g"
+    };
+    private static final String[] JUNG_KEYS = {
+            "k", "o", "i", "O", "j", "p", "u", "P", "h", "hk", "ho", "hl", "y", "n", "nj", "np", "nl", "b", "m", "ml", "l"
+    };
+    private static final String[] JONG_KEYS = {
+            "", "r", "R", "rt", "s", "sw", "sg", "e", "f", "fr", "fa", "fq", "ft", "fx", "fv", "fg",
+            "a", "q", "qt", "t", "T", "d", "w", "c", "z", "x", "v", "g"
+    };
+
+    // QWERTY 자판의 줄과 줄 시작 위치 (키 너비 단위로 엇갈림 반영)
+    private static final String[] ROWS = {"1234567890", "qwertyuiop", "asdfghjkl", "zxcvbnm"};
+    private static final double[] ROW_OFFSETS = {0.0, 0.5, 0.75, 1.25};
+    private static final String RARE_LETTERS = "qzxj";
+
+    private WordClassifier() {
+    }
+
+    // 단어의 난이도 분류
+    public static Difficulty classify(String word) {
+        double score = score(word);
+        if (score <= EASY_MAX_SCORE) {
+            return Difficulty.EASY;
+        }
+        if (score <= NORMAL_MAX_SCORE) {
+            return Difficulty.NORMAL;
+        }
+        return Difficulty.HARD;
+    }
+
+    // 입력 난이도 점수. 높을수록 어려움
+    public static double score(String word) {
+        StringBuilder keys = new StringBuilder(word.length() * 3);
+        int rare = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int index = c - HANGUL_BASE;
+                keys.append(CHO_KEYS[index / (JUNG_COUNT * JONG_COUNT)]);
+                keys.append(JUNG_KEYS[(index / JONG_COUNT) % JUNG_COUNT]);
+                keys.append(JONG_KEYS[index % JONG_COUNT]);
+            } else {
+                keys.append(c);
+                char lower = Character.toLowerCase(c);
+                if (c != ' ' && (RARE_LETTERS.indexOf(lower) >= 0 || !(lower >= 'a' && lower <= 'z'))) {
+                    rare++; // 드문 영문자, 숫자, 기호, 자판에 없는 문자 (공백은 제외)
+                }
+            }
+        }
+
+        int shifts = 0;
+        double travel = 0;
+        double prevX = Double.NaN;
+        double prevY = Double.NaN;
+        for (int i = 0; i < keys.length(); i++) {
+            char key = keys.charAt(i);
+            if (Character.isUpperCase(key) || isShiftedSymbol(key)) {
+                shifts++;
+            }
+            char lower = Character.toLowerCase(key);
+            for (int row = 0; row < ROWS.length; row++) {
+                int col = ROWS[row].indexOf(lower);
+                if (col < 0) {
+                    continue;
+                }
+                double x = col + ROW_OFFSETS[row];
+                double y = row;
+                if (!Double.isNaN(prevX)) {
+                    travel += Math.hypot(x - prevX, y - prevY);
+                }
+                prevX = x;
+                prevY = y;
+                break;
+            }
+        }
+        return keys.length() + SHIFT_WEIGHT * shifts + RARE_WEIGHT * rare + TRAVEL_WEIGHT * travel;
+    }
+
+    private static boolean isShiftedSymbol(char c) {
+        return "~!@#$%^&*()_+{}|:\"<>?".indexOf(c) >= 0;
+    }
+}
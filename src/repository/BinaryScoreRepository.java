@@ -0,0 +1,338 @@
+package repository;
+
+import data.ScoreEntry;
+import difficulty.Difficulty;
+import repository.interfaces.ScoreRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 점수를 고정 길이 이진 레코드로 저장하는 리포지토리 구현체
+// 레코드 파일(scores.bin): 헤더(magic, version) 뒤에 16바이트 레코드가 저장 순서대로 이어짐
+//   플레이어 id(int) 점수(int) 기록 시각(int, epoch 초) 난이도(byte, 알 수 없으면 -1) 예약(3바이트)
+// 이름 파일(scores.bin.names): 플레이어 이름을 [길이(short)][UTF-8 바이트]로 처음 등장한 순서대로 저장. 순서가 곧 id
+// 이름을 레코드에 넣지 않으므로 이름에 쉼표나 줄바꿈이 있어도 기록이 깨지지 않음
+// 읽기는 레코드 파일을 메모리 매핑하여 해석 없이 바로 훑음
+// 쓰기는 이름을 먼저 기록한 뒤 레코드를 파일 끝에 쓰고, 다 쓴 다음에야 레코드 수를 늘리므로
+// 읽는 쪽은 쓰는 중에도 락 없이 완성된 레코드만 보게 됨. 쓰다 만 마지막 레코드나 이름은 시작 시 잘라냄
+// 저장할 때마다 디스크 동기화(fsync)를 하지는 않으며, flush를 호출해야 기기가 멈춰도 남는 것이 보장됨
+public class BinaryScoreRepository implements ScoreRepository {
+
+    private static final int MAGIC = 0x53434F52; // "SCOR"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 16;
+    private static final int NO_DIFFICULTY = -1;
+
+    private final Path recordPath;
+    private final Path namePath;
+
+    // 쓰기 상태 (writeLock으로 보호)
+    private final Object writeLock = new Object();
+    private FileChannel recordChannel;
+    private FileChannel nameChannel;
+    private final Map<String, Integer> idByName = new HashMap<String, Integer>();
+
+    // 읽는 쪽에 공개되는 상태. 이름 배열은 새 이름이 생길 때마다 복사본으로 교체하고, 레코드 수는 레코드를 다 쓴 뒤 늘림
+    private volatile String[] names = new String[0];
+    private volatile long committedRecords = 0;
+
+    // 읽기용 매핑 (this로 보호). 레코드가 늘어나면 다시 매핑
+    private MappedByteBuffer mapped;
+    private long mappedRecords = -1;
+
+    // legacyCsvPath: 이전 형식("이름,점수" 텍스트)의 점수 파일. 레코드 파일이 아직 없으면 한 번만 옮겨 옴
+    public BinaryScoreRepository(String filePath, String legacyCsvPath) {
+        this.recordPath = Path.of(filePath);
+        this.namePath = Path.of(filePath + ".names");
+        try {
+            if (!Files.exists(recordPath) && legacyCsvPath != null && new File(legacyCsvPath).exists()) {
+                migrateFromCsv(Path.of(legacyCsvPath));
+            }
+            open();
+        } catch (IOException e) {
+            System.err.println("score file 열기 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void saveScore(ScoreEntry entry) {
+        if (entry != null) {
+            saveScores(Collections.singletonList(entry));
+        }
+    }
+
+    // 여러 레코드를 한 버퍼에 모아 한 번의 쓰기로 파일 끝에 덧붙임
+    @Override
+    public void saveScores(List<ScoreEntry> entries) {
+        synchronized (writeLock) {
+            if (recordChannel == null) {
+                System.err.println("점수 저장 실패: 점수 파일이 열려 있지 않음");
+                return;
+            }
+            try {
+                ByteBuffer records = ByteBuffer.allocate(entries.size() * RECORD_BYTES);
+                int count = 0;
+                for (ScoreEntry entry : entries) {
+                    if (entry != null) {
+                        putRecord(records, internName(entry.getPlayerName()), entry);
+                        count++;
+                    }
+                }
+                records.flip();
+                long position = HEADER_BYTES + committedRecords * RECORD_BYTES;
+                while (records.hasRemaining()) {
+                    position += recordChannel.write(records, position);
+                }
+                committedRecords += count; // 레코드를 다 쓴 뒤 공개
+            } catch (IOException e) {
+                System.err.println("점수 저장 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    // 이름 파일과 레코드 파일을 디스크에 동기화
+    @Override
+    public void flush() {
+        synchronized (writeLock) {
+            if (recordChannel == null) {
+                return;
+            }
+            try {
+                nameChannel.force(false);
+                recordChannel.force(false);
+            } catch (IOException e) {
+                System.err.println("점수 파일 동기화 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    // 매핑된 레코드를 훑으며 상위 limit개만 유지. 상위권에 드는 레코드만 ScoreEntry로 만듦
+    @Override
+    public List<ScoreEntry> loadTopScores(int limit) {
+        if (limit <= 0) {
+            return new ArrayList<ScoreEntry>();
+        }
+        long count = committedRecords; // 레코드 수를 먼저 읽어야 그 레코드들의 이름이 모두 names에 있음
+        String[] nameTable = names;
+        MappedByteBuffer buffer = mapRecords(count);
+        TopScores top = new TopScores(limit);
+        if (buffer == null) {
+            return top.toList();
+        }
+        for (long i = 0; i < count; i++) {
+            int base = (int) (HEADER_BYTES + i * RECORD_BYTES);
+            int score = buffer.getInt(base + 4);
+            if (top.accepts(score)) {
+                top.add(readRecord(buffer, base, nameTable), i);
+            }
+        }
+        return top.toList();
+    }
+
+    // 매핑된 레코드에서 점수만 읽음 (이름은 해석하지 않음)
+    @Override
+    public int[] loadAllScores() {
+        long count = committedRecords;
+        MappedByteBuffer buffer = mapRecords(count);
+        if (buffer == null) {
+            return new int[0];
+        }
+        int[] scores = new int[(int) count];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = buffer.getInt(HEADER_BYTES + i * RECORD_BYTES + 4);
+        }
+        return scores;
+    }
+
+    // 저장된 레코드 수
+    public long size() {
+        return committedRecords;
+    }
+
+    // 레코드 파일을 count개 레코드만큼 매핑. 이미 그만큼 매핑되어 있으면 그대로 사용
+    private synchronized MappedByteBuffer mapRecords(long count) {
+        if (mapped != null && mappedRecords >= count) {
+            return mapped;
+        }
+        try (FileChannel channel = FileChannel.open(recordPath, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES + count * RECORD_BYTES);
+            mappedRecords = count;
+        } catch (IOException e) {
+            System.err.println("score file 읽기 실패: " + e.getMessage());
+            return null;
+        }
+        return mapped;
+    }
+
+    private static ScoreEntry readRecord(ByteBuffer buffer, int base, String[] nameTable) {
+        int id = buffer.getInt(base);
+        int score = buffer.getInt(base + 4);
+        long seconds = Integer.toUnsignedLong(buffer.getInt(base + 8));
+        int d = buffer.get(base + 12);
+        String name = (id >= 0 && id < nameTable.length) ? nameTable[id] : "?";
+        Difficulty difficulty = (d >= 0 && d < Difficulty.values().length) ? Difficulty.values()[d] : null;
+        return new ScoreEntry(name, score, difficulty, seconds * 1000L);
+    }
+
+    private static void putRecord(ByteBuffer buffer, int id, ScoreEntry entry) {
+        buffer.putInt(id);
+        buffer.putInt(entry.getScore());
+        buffer.putInt((int) (entry.getTimestamp() / 1000L));
+        buffer.put((byte) (entry.getDifficulty() == null ? NO_DIFFICULTY : entry.getDifficulty().ordinal()));
+        buffer.put(new byte[RECORD_BYTES - 13]);
+    }
+
+    // 이름의 id 반환. 처음 보는 이름이면 이름 파일에 기록하고 이름 배열을 교체. writeLock을 잡은 상태에서 호출
+    private int internName(String name) throws IOException {
+        String key = (name == null) ? "" : name;
+        Integer id = idByName.get(key);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            bytes = Arrays.copyOf(bytes, Short.MAX_VALUE);
+        }
+        ByteBuffer entry = ByteBuffer.allocate(2 + bytes.length);
+        entry.putShort((short) bytes.length).put(bytes);
+        entry.flip();
+        while (entry.hasRemaining()) {
+            nameChannel.write(entry);
+        }
+
+        String[] current = names;
+        String[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = key;
+        names = next;
+        idByName.put(key, current.length);
+        return current.length;
+    }
+
+    // 레코드 파일과 이름 파일을 열고, 쓰다 만 마지막 레코드와 이름을 잘라냄
+    private void open() throws IOException {
+        recordChannel = FileChannel.open(recordPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = recordChannel.size();
+        if (size < HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            recordChannel.truncate(0);
+            recordChannel.write(header, 0);
+            size = HEADER_BYTES;
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            recordChannel.read(header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                recordChannel.close();
+                recordChannel = null;
+                throw new IOException("점수 파일 형식이 아님: " + recordPath);
+            }
+        }
+        long records = (size - HEADER_BYTES) / RECORD_BYTES;
+        if (HEADER_BYTES + records * RECORD_BYTES != size) {
+            recordChannel.truncate(HEADER_BYTES + records * RECORD_BYTES);
+        }
+
+        nameChannel = FileChannel.open(namePath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        loadNames();
+        committedRecords = records;
+    }
+
+    private void loadNames() throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(namePath));
+        List<String> loaded = new ArrayList<String>();
+        while (data.remaining() >= 2) {
+            int length = data.getShort(data.position());
+            if (length < 0 || data.remaining() < 2 + length) {
+                break; // 쓰다 만 마지막 이름
+            }
+            data.position(data.position() + 2);
+            byte[] bytes = new byte[length];
+            data.get(bytes);
+            String name = new String(bytes, StandardCharsets.UTF_8);
+            idByName.putIfAbsent(name, loaded.size());
+            loaded.add(name);
+        }
+        if (data.position() < data.limit()) {
+            nameChannel.truncate(data.position());
+        }
+        nameChannel.position(data.position());
+        names = loaded.toArray(new String[0]);
+    }
+
+    // 이전 형식의 텍스트 점수 파일을 이진 형식으로 한 번 옮김. 텍스트 파일 해석은 FileScoreRepository에 맡김
+    // 임시 파일에 모두 쓴 뒤 이름 파일, 레코드 파일 순으로 옮기고(레코드 파일이 있으면 옮기기 완료), 원본은 .migrated로 남김
+    private void migrateFromCsv(Path csvPath) throws IOException {
+        Path recordTemp = Path.of(recordPath + ".tmp");
+        Path nameTemp = Path.of(namePath + ".tmp");
+        Map<String, Integer> ids = new HashMap<String, Integer>();
+        long[] migrated = new long[1];
+        try (FileChannel records = FileChannel.open(recordTemp,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             FileChannel nameOut = FileChannel.open(nameTemp,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putInt(MAGIC).putInt(VERSION);
+            new FileScoreRepository(csvPath.toString()).forEachScore(entry -> {
+                String name = entry.getPlayerName();
+                Integer id = ids.get(name);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(name, id);
+                    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                    ByteBuffer nameEntry = ByteBuffer.allocate(2 + bytes.length);
+                    nameEntry.putShort((short) bytes.length).put(bytes);
+                    nameEntry.flip();
+                    while (nameEntry.hasRemaining()) {
+                        nameOut.write(nameEntry);
+                    }
+                }
+                if (buffer.remaining() < RECORD_BYTES) {
+                    flush(records, buffer);
+                }
+                putRecord(buffer, id, entry);
+                migrated[0]++;
+            });
+            flush(records, buffer);
+            records.force(true);
+            nameOut.force(true);
+        }
+        moveAtomically(nameTemp, namePath);
+        moveAtomically(recordTemp, recordPath);
+        Files.move(csvPath, Path.of(csvPath + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+        System.err.println("점수 파일 변환: " + migrated[0] + "개 기록 (" + csvPath + " -> " + recordPath + ")");
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
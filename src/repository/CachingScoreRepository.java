@@ -0,0 +1,212 @@
+package repository;
+
+import data.ScoreEntry;
+import repository.interfaces.ScoreRepository;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 상위 점수 목록을 메모리에 유지하는 ScoreRepository 데코레이터
+// 처음 한 번만 원본 리포지토리에서 상위 capacity개를 읽고, 이후 saveScore는 정렬된 목록에 바로 끼워 넣음
+// loadTopScores는 디스크를 읽지 않고 메모리에서 반환함
+// 모든 점수의 분포도 ScoreRankIndex로 함께 유지하여 rankOf, percentile을 O(log n)에 답함
+// 점수 파일의 크기와 수정 시각을 기억해 두었다가, 다른 프로세스가 파일을 바꾼 것이 확인되면 다시 읽음
+// (확인은 STAMP_CHECK_INTERVAL_MILLIS 간격으로만 하여 목록 조회마다 파일 시스템에 접근하지 않음)
+// 저장할 때는 메모리 목록에 먼저 반영하고 원본 저장(디스크 I/O)은 락 밖에서 하므로, 저장 중에도 조회가 디스크를 기다리지 않음
+// (저장 중에는 우리가 쓰고 있는 파일 변경을 외부 변경으로 오인하지 않도록 파일 상태 확인을 미룸)
+public class CachingScoreRepository implements ScoreRepository {
+
+    private static final int DEFAULT_CAPACITY = 100;
+    private static final long STAMP_CHECK_INTERVAL_MILLIS = 1000;
+
+    private final ScoreRepository delegate;
+    private final File watchedFile; // 외부 변경을 확인할 점수 파일
+
+    private int capacity;                                  // 메모리에 유지할 상위 점수 수
+    private final List<ScoreEntry> top = new ArrayList<ScoreEntry>(); // 점수 내림차순, 같은 점수는 먼저 저장된 순
+    private final ScoreRankIndex ranks = new ScoreRankIndex();        // 모든 기록의 점수 분포
+    private boolean loaded = false;
+    private int writesInProgress = 0; // 락 밖에서 원본에 저장 중인 수
+
+    // 마지막으로 확인한 점수 파일 상태
+    private long knownLength = -1;
+    private long knownModified = -1;
+    private long lastStampCheck = 0;
+
+    public CachingScoreRepository(ScoreRepository delegate, String watchedFilePath) {
+        this(delegate, watchedFilePath, DEFAULT_CAPACITY);
+    }
+
+    public CachingScoreRepository(ScoreRepository delegate, String watchedFilePath, int capacity) {
+        this.delegate = delegate;
+        this.watchedFile = new File(watchedFilePath);
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public void saveScore(ScoreEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        saveScores(Collections.singletonList(entry));
+    }
+
+    @Override
+    public void saveScores(List<ScoreEntry> entries) {
+        saveScores(entries, () -> { });
+    }
+
+    // 메모리 목록에 순위에 맞게 끼워 넣고(이때 onVisible 실행) 원본에는 락 밖에서 한 번에 저장
+    @Override
+    public void saveScores(List<ScoreEntry> entries, Runnable onVisible) {
+        synchronized (this) {
+            if (!loaded || (writesInProgress == 0 && fileChangedExternally())) {
+                reload(); // 저장하기 전에 외부 변경을 반영
+            }
+            for (ScoreEntry entry : entries) {
+                if (entry != null) {
+                    insert(entry);
+                    ranks.add(entry.getScore());
+                }
+            }
+            writesInProgress++;
+            onVisible.run();
+        }
+        boolean saved = false;
+        try {
+            delegate.saveScores(entries);
+            saved = true;
+        } finally {
+            synchronized (this) {
+                writesInProgress--;
+                notifyAll(); // reload 대기 중인 스레드 깨움
+                if (!saved) {
+                    loaded = false; // 메모리와 파일이 어긋났으므로 다음 조회 때 파일에서 다시 읽음
+                } else if (writesInProgress == 0) {
+                    rememberStamp(); // 우리가 쓴 변경은 외부 변경이 아님
+                }
+            }
+        }
+    }
+
+    // 상위 목록과 점수 분포를 파일에서 미리 읽어 둠 (이미 읽었으면 무시)
+    @Override
+    public synchronized void preload() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public synchronized List<ScoreEntry> loadTopScores(int limit) {
+        if (limit <= 0) {
+            return new ArrayList<ScoreEntry>();
+        }
+        if (limit > capacity) {
+            capacity = limit; // 더 많은 순위를 요청하면 그만큼 유지하도록 늘리고 다시 읽음
+            reload();
+        } else {
+            refreshIfChanged();
+        }
+        return new ArrayList<ScoreEntry>(top.subList(0, Math.min(limit, top.size())));
+    }
+
+    // 모든 점수는 메모리에 두지 않으므로 원본에서 읽음 (loadTopScores 기본 구현을 타면 capacity가 커져 버림)
+    @Override
+    public int[] loadAllScores() {
+        return delegate.loadAllScores();
+    }
+
+    @Override
+    public synchronized long countScores() {
+        refreshIfChanged();
+        return ranks.size();
+    }
+
+    @Override
+    public synchronized long rankOf(int score) {
+        refreshIfChanged();
+        return ranks.countAbove(score) + 1;
+    }
+
+    @Override
+    public synchronized double percentile(int score) {
+        refreshIfChanged();
+        long total = ranks.size();
+        return (total == 0) ? 100.0 : ranks.countAtOrBelow(score) * 100.0 / total;
+    }
+
+    private void refreshIfChanged() {
+        if (!loaded || (writesInProgress == 0 && checkStampDue() && fileChangedExternally())) {
+            reload();
+        }
+    }
+
+    // 정렬 순서를 유지하며 삽입. 같은 점수들 뒤에 넣으므로 먼저 저장된 점수가 앞 순위를 유지함
+    private void insert(ScoreEntry entry) {
+        int low = 0;
+        int high = top.size();
+        while (low < high) { // entry보다 점수가 낮은 첫 위치 (이진 탐색)
+            int mid = (low + high) >>> 1;
+            if (top.get(mid).getScore() >= entry.getScore()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low >= capacity) {
+            return; // 상위권 밖
+        }
+        top.add(low, entry);
+        if (top.size() > capacity) {
+            top.remove(top.size() - 1);
+        }
+    }
+
+    // 파일에서 다시 읽음. 락 밖에서 저장 중인 점수는 아직 파일에 없을 수 있으므로 저장이 끝날 때까지 기다림
+    // (저장 중에 다시 읽어야 하는 경우는 capacity를 늘리거나 저장이 실패했을 때뿐이라 드묾)
+    private void reload() {
+        while (writesInProgress > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        top.clear();
+        top.addAll(delegate.loadTopScores(capacity));
+        ranks.clear();
+        for (int score : delegate.loadAllScores()) {
+            ranks.add(score);
+        }
+        loaded = true;
+        rememberStamp();
+    }
+
+    private boolean checkStampDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastStampCheck < STAMP_CHECK_INTERVAL_MILLIS) {
+            return false;
+        }
+        lastStampCheck = now;
+        return true;
+    }
+
+    private boolean fileChangedExternally() {
+        return watchedFile.length() != knownLength || watchedFile.lastModified() != knownModified;
+    }
+
+    private void rememberStamp() {
+        knownLength = watchedFile.length();
+        knownModified = watchedFile.lastModified();
+        lastStampCheck = System.currentTimeMillis();
+    }
+}
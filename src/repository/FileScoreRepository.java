@@ -3,19 +3,33 @@ package repository;
 import data.ScoreEntry;
 import repository.interfaces.ScoreRepository;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
-// 파일 시스템을 이용해 점수를 저장하고 불러오는 리포지토리 구현체
+// 파일 시스템을 이용해 점수를 저장하고 불러오는 리포지토리 구현체 ("이름,점수" 한 줄에 한 기록)
+// 게임은 BinaryScoreRepository를 쓰며, 이 구현체는 이전 형식의 텍스트 점수 파일을 읽어 옮길 때(forEachScore) 쓰임
+// 이전 형식 파일은 FileWriter로 기록했으므로 읽고 쓸 때도 플랫폼 기본 문자셋을 씀
 public class FileScoreRepository implements ScoreRepository {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // forEachScore에 넘기는 처리기. 처리 중 쓰기 실패는 IOException으로 그대로 전달됨
+    public interface ScoreVisitor {
+        void visit(ScoreEntry entry) throws IOException;
+    }
+
+    // 해석한 한 줄을 받는 쪽. 이름은 buffer[nameStart, nameEnd)에 있으므로 필요할 때만 문자열로 만듦
+    private interface RecordSink {
+        void accept(char[] buffer, int nameStart, int nameEnd, int score, long line) throws IOException;
+    }
+
     private final String filePath;
 
     public FileScoreRepository(String filePath) {
@@ -36,41 +50,126 @@ public class FileScoreRepository implements ScoreRepository {
         }
     }
 
+    // 파일을 한 번 훑으면서 상위 limit개만 유지 (메모리 O(limit))
+    // 줄을 String으로 만들거나 split하지 않고 문자 버퍼에서 바로 해석하며, 상위권에 드는 기록만 이름 문자열을 만듦
     @Override
     public synchronized List<ScoreEntry> loadTopScores(int limit) {
-        List<ScoreEntry> result = new ArrayList<ScoreEntry>();
         File file = new File(filePath);
-        if (!file.exists()) {
-            return result;
+        if (!file.exists() || limit <= 0) {
+            return new ArrayList<ScoreEntry>();
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line = reader.readLine();
-            while (line != null) {
-                String trimmed = line.trim();
-                if (!trimmed.isEmpty()) {
-                    String[] parts = trimmed.split(",");
-                    if (parts.length == 2) {
-                        String name = parts[0];
-                        try {
-                            int score = Integer.parseInt(parts[1]);
-                            result.add(new ScoreEntry(name, score));
-                        } catch (NumberFormatException e) {
-                            System.err.println(e.getMessage());
-                        }
-                    }
+        TopScores top = new TopScores(limit);
+        try (Reader reader = new FileReader(file)) {
+            // 상위권이 가득 찼다면 가장 낮은 순위보다 점수가 높을 때만 들어감 (같은 점수는 먼저 기록된 쪽이 앞 순위)
+            scan(reader, (buffer, nameStart, nameEnd, score, line) -> {
+                if (top.accepts(score)) {
+                    top.add(new ScoreEntry(new String(buffer, nameStart, nameEnd - nameStart), score), line);
                 }
-                line = reader.readLine();
-            }
+            });
         } catch (IOException e) {
             System.err.println("score file 읽기 실패: " + e.getMessage());
         }
+        return top.toList(); // 순위순 정렬된 상위 목록
+    }
 
-        // 점수순 정렬 후 상위 n개 반환
-        Collections.sort(result);
-        if (result.size() > limit) {
-            return new ArrayList<ScoreEntry>(result.subList(0, limit));
+    // 모든 유효한 기록을 파일에 적힌 순서대로 visitor에 넘김 (메모리 O(1), 파일이 없으면 아무것도 하지 않음)
+    public synchronized void forEachScore(ScoreVisitor visitor) throws IOException {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return;
+        }
+        try (Reader reader = new FileReader(file)) {
+            scan(reader, (buffer, nameStart, nameEnd, score, line) ->
+                    visitor.visit(new ScoreEntry(new String(buffer, nameStart, nameEnd - nameStart), score)));
+        }
+    }
+
+    // 문자 버퍼 단위로 읽으며 줄마다 offer 호출. 버퍼 끝에 걸친 줄은 버퍼 앞으로 옮겨 이어 읽음
+    private static void scan(Reader reader, RecordSink sink) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int length = 0;   // 버퍼에 채워진 문자 수
+        long line = 0;    // 줄 번호
+        int read;
+        while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            int lineStart = 0;
+            for (int i = 0; i < length; i++) {
+                char c = buffer[i];
+                if (c == '\n' || c == '\r') {
+                    offer(buffer, lineStart, i, line++, sink);
+                    lineStart = i + 1;
+                }
+            }
+            // 아직 끝나지 않은 줄을 버퍼 앞으로 옮기고, 한 줄이 버퍼보다 길면 버퍼를 늘림
+            length -= lineStart;
+            System.arraycopy(buffer, lineStart, buffer, 0, length);
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        if (length > 0) {
+            offer(buffer, 0, length, line, sink); // 줄바꿈 없이 끝난 마지막 줄
+        }
+    }
+
+    // "이름,점수" 한 줄을 해석하여 sink에 넘김
+    // 앞뒤 공백은 무시하고, 마지막 쉼표 뒤가 정수인 줄만 유효 (잘못된 줄은 건너뜀)
+    // 이름에 쉼표가 들어간 기록도 마지막 쉼표를 기준으로 나누어 살림
+    private static void offer(char[] buffer, int start, int end, long line, RecordSink sink) throws IOException {
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return; // 빈 줄
+        }
+        int comma = end - 1;
+        while (comma >= start && buffer[comma] != ',') {
+            comma--;
+        }
+        int scoreStart = comma + 1;
+        while (scoreStart < end && buffer[scoreStart] <= ' ') {
+            scoreStart++;
+        }
+        if (comma < start || scoreStart == end) {
+            return; // 쉼표가 없거나 점수가 비어 있음
+        }
+        long score = parseScore(buffer, scoreStart, end);
+        if (score == Long.MIN_VALUE) {
+            System.err.println("잘못된 점수: " + new String(buffer, scoreStart, end - scoreStart));
+            return;
+        }
+        sink.accept(buffer, start, comma, (int) score, line);
+    }
+
+    // 부호가 붙을 수 있는 10진 정수 해석. int 범위를 벗어나거나 숫자가 아니면 Long.MIN_VALUE
+    private static long parseScore(char[] buffer, int start, int end) {
+        boolean negative = false;
+        if (buffer[start] == '-' || buffer[start] == '+') {
+            negative = buffer[start] == '-';
+            start++;
+            if (start == end) {
+                return Long.MIN_VALUE;
+            }
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = buffer[i];
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return Long.MIN_VALUE;
+            }
+        }
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return Long.MIN_VALUE;
         }
-        return result;
+        return value;
     }
-}
\ No newline at end of file
+}
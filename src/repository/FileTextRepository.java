@@ -1,32 +1,111 @@
 package repository;
 
+import difficulty.Difficulty;
+import difficulty.WordClassifier;
 import repository.interfaces.TextRepository;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 // 텍스트 파일에서 단어 목록을 관리하는 리포지토리 구현체
+// 단어를 추가/삭제할 때마다 전체 파일을 다시 쓰지 않고, 변경 내역만 저널 파일(words.txt.journal)에 한 줄씩 덧붙임
+//   "+단어": 추가, "-단어": 삭제
+// 저널이 일정 크기 이상 쌓이거나 일정 시간이 지나면 백그라운드 스레드가 기본 파일로 합침(compaction)
+//   1) 락 안에서 단어 목록을 복사하고 저널을 .applied 로 이름 변경 (이후 변경은 새 저널에 기록)
+//   2) 락 밖에서 복사본을 임시 파일에 쓰고 디스크에 동기화한 뒤 기본 파일 위치로 원자적으로 이동
+//   3) .applied 삭제
+// 어느 단계에서 중단되어도 기본 파일은 이전 내용이나 새 내용 중 하나로 온전히 남고,
+// 시작 시 기본 파일을 읽은 뒤 .applied, 저널 순서로 다시 적용하여 복구함 (같은 기록을 두 번 적용해도 결과가 같음)
 public class FileTextRepository implements TextRepository {
 
+    private static final int COMPACT_THRESHOLD = 1000;    // 저널 기록이 이만큼 쌓이면 바로 합침
+    private static final long COMPACT_INTERVAL_SECONDS = 30; // 저널에 기록이 남아 있으면 이 간격으로 합침
+
     private final String filePath;
+    private final Path basePath;
+    private final Path journalPath;
+    private final Path appliedPath;
+    private final Path tempPath;
+
     private final List<String> words = new ArrayList<String>();
+    // 난이도별 단어 목록. 단어를 추가/삭제할 때 한 번만 분류하여 함께 갱신
+    private final Map<Difficulty, List<String>> buckets = new EnumMap<Difficulty, List<String>>(Difficulty.class);
+    // 단어 -> 두 목록에서의 위치 (중복 검사와 O(1) 삭제용)
+    private final Map<String, Slot> slots = new HashMap<String, Slot>();
     private final Random random = new Random();
 
+    // 단어 하나가 words와 난이도별 목록에서 놓인 위치
+    private static final class Slot {
+        final Difficulty difficulty;
+        int index;       // words에서의 위치
+        int bucketIndex; // buckets.get(difficulty)에서의 위치
+
+        Slot(Difficulty difficulty, int index, int bucketIndex) {
+            this.difficulty = difficulty;
+            this.index = index;
+            this.bucketIndex = bucketIndex;
+        }
+    }
+
+    private FileChannel journal = null; // 열려 있는 저널 파일 (처음 기록할 때 염)
+    private int journalRecords = 0;     // 현재 저널의 기록 수
+    private boolean compactionScheduled = false;
+
+    // 저널 합치기 전용 데몬 스레드
+    private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "word-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public FileTextRepository(String filePath) {
         this.filePath = filePath;
+        this.basePath = Path.of(filePath);
+        this.journalPath = Path.of(filePath + ".journal");
+        this.appliedPath = Path.of(filePath + ".applied");
+        this.tempPath = Path.of(filePath + ".tmp");
+
         loadFromFile();
+        int replayed = replayJournal(appliedPath) + replayJournal(journalPath);
+        deleteQuietly(tempPath); // 이전 실행에서 쓰다 만 임시 파일
         // 파일에 단어가 없으면 기본 단어들을 생성해서 저장
-        if (words.isEmpty()) {
+        if (words.isEmpty() && replayed == 0) {
             initDefaultWords();
-            saveToFile();
+            try {
+                writeBaseFile(new ArrayList<String>(words));
+            } catch (IOException e) {
+                System.err.println("word file 쓰기 실패: " + e.getMessage());
+            }
+        } else if (replayed > 0) {
+            System.err.println("단어 저널 복구: " + replayed + "개 기록 적용");
+            scheduleCompaction(); // 복구한 내용을 기본 파일에 반영
         }
+        compactor.scheduleWithFixedDelay(this::compactIfDirty,
+                COMPACT_INTERVAL_SECONDS, COMPACT_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 
     @Override
@@ -38,17 +117,56 @@ public class FileTextRepository implements TextRepository {
         return words.get(index);
     }
 
+    // 이미 있는 단어는 다시 추가하지 않음 (저널을 다시 적용해도 결과가 같도록 단어 목록을 집합으로 유지)
+    @Override
+    public synchronized boolean addWord(String word) {
+        String normalized = TextRepository.normalizeWord(word);
+        if (normalized == null || !insertWord(normalized)) {
+            return false;
+        }
+        appendRecords("+" + normalized + "\n", 1);
+        return true;
+    }
+
+    // 추가할 단어들의 저널 기록을 모아 한 번의 쓰기로 덧붙임
     @Override
-    public synchronized void addWord(String word) {
+    public synchronized int addWords(Collection<String> newWords) {
+        StringBuilder records = new StringBuilder();
+        int added = 0;
+        for (String word : newWords) {
+            String normalized = TextRepository.normalizeWord(word);
+            if (normalized != null && insertWord(normalized)) {
+                records.append('+').append(normalized).append('\n');
+                added++;
+            }
+        }
+        if (added > 0) {
+            appendRecords(records, added);
+        }
+        return added;
+    }
+
+    @Override
+    public synchronized boolean removeWord(String word) {
         if (word == null) {
-            return;
+            return false;
         }
         String trimmed = word.trim();
-        if (trimmed.isEmpty()) {
-            return;
+        if (!deleteWord(trimmed)) {
+            return false;
         }
-        words.add(trimmed);
-        saveToFile();
+        appendRecords("-" + trimmed + "\n", 1);
+        return true;
+    }
+
+    // 해당 난이도의 단어 중 하나를 O(1)로 뽑음. 그 난이도의 단어가 없으면 전체 단어에서 뽑음
+    @Override
+    public synchronized String getRandomWord(Difficulty difficulty) {
+        List<String> bucket = buckets.get(difficulty);
+        if (bucket == null || bucket.isEmpty()) {
+            return getRandomWord();
+        }
+        return bucket.get(random.nextInt(bucket.size()));
     }
 
     @Override
@@ -56,16 +174,68 @@ public class FileTextRepository implements TextRepository {
         return new ArrayList<String>(words);
     }
 
+    @Override
+    public synchronized List<String> getWords(Difficulty difficulty) {
+        List<String> bucket = (difficulty == null) ? words : buckets.get(difficulty);
+        return (bucket == null) ? new ArrayList<String>() : new ArrayList<String>(bucket);
+    }
+
+    @Override
+    public synchronized int countWords(Difficulty difficulty) {
+        List<String> list = (difficulty == null) ? words : buckets.get(difficulty);
+        return (list == null) ? 0 : list.size();
+    }
+
+    @Override
+    public synchronized String wordAt(Difficulty difficulty, int index) {
+        List<String> list = (difficulty == null) ? words : buckets.get(difficulty);
+        return (list == null || index < 0 || index >= list.size()) ? null : list.get(index);
+    }
+
+    // 단어 목록과 난이도별 목록 끝에 추가하고 위치를 기억. 이미 있으면 false
+    private boolean insertWord(String word) {
+        if (slots.containsKey(word)) {
+            return false;
+        }
+        Difficulty difficulty = WordClassifier.classify(word);
+        List<String> bucket = buckets.computeIfAbsent(difficulty, d -> new ArrayList<String>());
+        slots.put(word, new Slot(difficulty, words.size(), bucket.size()));
+        words.add(word);
+        bucket.add(word);
+        return true;
+    }
+
+    // 단어 목록과 난이도별 목록에서 삭제. 없으면 false
+    // 목록을 앞으로 당기지 않고 마지막 단어를 지운 자리로 옮기므로 O(1) (단어 순서는 바뀜)
+    private boolean deleteWord(String word) {
+        Slot slot = slots.remove(word);
+        if (slot == null) {
+            return false;
+        }
+        String last = words.remove(words.size() - 1);
+        if (slot.index < words.size()) {
+            words.set(slot.index, last);
+            slots.get(last).index = slot.index;
+        }
+        List<String> bucket = buckets.get(slot.difficulty);
+        String lastInBucket = bucket.remove(bucket.size() - 1);
+        if (slot.bucketIndex < bucket.size()) {
+            bucket.set(slot.bucketIndex, lastInBucket);
+            slots.get(lastInBucket).bucketIndex = slot.bucketIndex;
+        }
+        return true;
+    }
+
     private void initDefaultWords() {
         // 기본 단어 초기화
-        words.add("star");
-        words.add("meteor");
-        words.add("java");
-        words.add("swing");
-        words.add("thread");
-        words.add("typing");
-        words.add("galaxy");
-        words.add("planet");
+        insertWord("star");
+        insertWord("meteor");
+        insertWord("java");
+        insertWord("swing");
+        insertWord("thread");
+        insertWord("typing");
+        insertWord("galaxy");
+        insertWord("planet");
     }
 
     private void loadFromFile() {
@@ -73,12 +243,12 @@ public class FileTextRepository implements TextRepository {
         if (!file.exists()) {
             return;
         }
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
             String line = reader.readLine();
             while (line != null) {
                 String trimmed = line.trim();
                 if (!trimmed.isEmpty()) {
-                    words.add(trimmed);
+                    insertWord(trimmed);
                 }
                 line = reader.readLine();
             }
@@ -87,14 +257,198 @@ public class FileTextRepository implements TextRepository {
         }
     }
 
-    private void saveToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            for (String word : words) {
+    // 저널 파일의 기록을 단어 목록에 순서대로 적용하고 적용한 기록 수 반환
+    // 줄바꿈으로 끝나지 않은 마지막 기록은 기록 도중 중단된 것이므로 무시함
+    private int replayJournal(Path path) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        byte[] data;
+        try {
+            data = Files.readAllBytes(path);
+        } catch (IOException e) {
+            System.err.println("단어 저널 읽기 실패: " + e.getMessage());
+            return 0;
+        }
+        int applied = 0;
+        int start = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] != '\n') {
+                continue;
+            }
+            String record = new String(data, start, i - start, StandardCharsets.UTF_8);
+            start = i + 1;
+            if (record.length() < 2) {
+                continue;
+            }
+            String word = record.substring(1);
+            if (record.charAt(0) == '+') {
+                insertWord(word);
+                applied++;
+            } else if (record.charAt(0) == '-') {
+                deleteWord(word);
+                applied++;
+            }
+        }
+        if (start < data.length) {
+            System.err.println("단어 저널의 마지막 기록이 불완전하여 무시함: " + path);
+        }
+        return applied;
+    }
+
+    // 저널에 기록들(recordCount개, 각각 줄바꿈으로 끝남)을 덧붙임. 락을 잡은 상태에서 호출
+    // 기록마다 디스크 동기화(force)는 하지 않으므로 운영체제가 멈추면 마지막 몇 개의 기록을 잃을 수 있지만,
+    // 기본 파일은 합치기 과정에서만 원자적으로 교체되므로 기존 단어 목록이 손상되지는 않음
+    private void appendRecords(CharSequence records, int recordCount) {
+        try {
+            if (journal == null) {
+                journal = FileChannel.open(journalPath,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                trimPartialRecord(journal);
+            }
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(records));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journalRecords += recordCount;
+        } catch (IOException e) {
+            System.err.println("단어 저널 쓰기 실패: " + e.getMessage());
+            return;
+        }
+        if (journalRecords >= COMPACT_THRESHOLD) {
+            scheduleCompaction();
+        }
+    }
+
+    // 이전 실행에서 기록하다 중단된 마지막 줄이 있으면 잘라내어 새 기록이 그 뒤에 이어 붙지 않게 하고,
+    // 쓰기 위치를 파일 끝으로 옮김 (이 채널만 파일에 쓰므로 이후 쓰기는 모두 덧붙이기가 됨)
+    private static void trimPartialRecord(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer one = ByteBuffer.allocate(1);
+        long end = size;
+        while (end > 0) {
+            one.clear();
+            channel.read(one, end - 1);
+            if (one.get(0) == '\n') {
+                break;
+            }
+            end--;
+        }
+        if (end < size) {
+            channel.truncate(end);
+        }
+        channel.position(end);
+    }
+
+    // 합치기 작업을 백그라운드에 예약. 이미 예약되어 있으면 무시. 락을 잡은 상태에서 호출
+    private void scheduleCompaction() {
+        if (compactionScheduled) {
+            return;
+        }
+        compactionScheduled = true;
+        compactor.execute(this::compact);
+    }
+
+    // 주기적 합치기: 저널에 기록이 남아 있을 때만 수행
+    private void compactIfDirty() {
+        synchronized (this) {
+            if (journalRecords == 0 && !Files.exists(appliedPath)) {
+                return;
+            }
+        }
+        compact();
+    }
+
+    // 저널의 내용을 기본 파일에 합침 (합치기 스레드에서만 실행)
+    private void compact() {
+        List<String> snapshot;
+        synchronized (this) {
+            compactionScheduled = false;
+            try {
+                rotateJournal();
+            } catch (IOException e) {
+                System.err.println("단어 저널 합치기 실패: " + e.getMessage());
+                return;
+            }
+            snapshot = new ArrayList<String>(words);
+        }
+        // 파일 쓰기는 락 밖에서 수행하므로 그동안에도 단어 추가/삭제가 막히지 않음
+        try {
+            writeBaseFile(snapshot);
+            Files.deleteIfExists(appliedPath);
+        } catch (IOException e) {
+            // .applied가 남아 있으므로 다음 합치기나 다음 시작 시 다시 반영됨
+            System.err.println("word file 쓰기 실패: " + e.getMessage());
+        }
+    }
+
+    // 현재 저널을 닫고 .applied 로 넘김. 이전 합치기가 실패하여 .applied가 남아 있으면 그 뒤에 이어 붙임
+    private void rotateJournal() throws IOException {
+        if (journal != null) {
+            journal.force(false);
+            journal.close();
+            journal = null;
+        }
+        journalRecords = 0;
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        if (!Files.exists(appliedPath)) {
+            moveAtomically(journalPath, appliedPath);
+            return;
+        }
+        byte[] pending = readCompleteRecords(journalPath);
+        try (FileChannel applied = FileChannel.open(appliedPath,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            trimPartialRecord(applied);
+            ByteBuffer buffer = ByteBuffer.wrap(pending);
+            while (buffer.hasRemaining()) {
+                applied.write(buffer);
+            }
+            applied.force(false);
+        }
+        Files.delete(journalPath);
+    }
+
+    // 파일에서 줄바꿈으로 끝나는 완전한 기록 부분만 읽음
+    private static byte[] readCompleteRecords(Path path) throws IOException {
+        byte[] data = Files.readAllBytes(path);
+        int end = data.length;
+        while (end > 0 && data[end - 1] != '\n') {
+            end--;
+        }
+        return Arrays.copyOf(data, end);
+    }
+
+    // 단어 목록을 임시 파일에 쓰고 디스크에 동기화한 뒤 기본 파일 위치로 원자적으로 이동
+    private void writeBaseFile(List<String> snapshot) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             BufferedWriter writer = new BufferedWriter(
+                     Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+            for (String word : snapshot) {
                 writer.write(word);
                 writer.newLine();
             }
+            writer.flush();
+            channel.force(true);
+        }
+        moveAtomically(tempPath, basePath);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            System.err.println("word file 쓰기 실패: " + e.getMessage());
+            System.err.println("임시 파일 삭제 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,983 @@
+package repository;
+
+import difficulty.Difficulty;
+import difficulty.WordClassifier;
+import repository.interfaces.TextRepository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// 아주 큰 단어 파일(수백만 단어)을 위한 메모리 매핑 기반 리포지토리 구현체
+// 단어 파일 전체를 힙에 읽어 들이지 않고 메모리 매핑한 뒤, 각 줄의 시작 위치만 담은 색인 파일(words.txt.idx.N)을 사용
+// 색인 파일도 메모리 매핑하므로 단어 수와 관계없이 힙 사용량이 일정하고, 단어는 getRandomWord에서 필요할 때만 디코딩함
+// 색인 파일은 단어 파일의 크기와 수정 시각이 기록과 같을 때만 재사용하고, 다르면 단어 파일을 한 번 훑어 다시 만듦
+// 단어를 추가하면 단어 파일과 색인 끝에 덧붙인 뒤 다시 매핑하므로 색인을 다시 만들 필요가 없음
+// 단어별 난이도는 분류 파일(words.txt.cls.N)에 한 바이트씩 저장하여, 시작할 때 단어를 다시 분류하지 않음
+// 난이도별 단어 번호 목록도 난이도마다 파일(words.txt.easy.ids.N 등)로 두고 매핑하므로, 난이도별로 번호를 지정해
+// 단어 하나만 읽을 수 있고(wordAt) 여는 데 단어 수만큼의 힙을 쓰지 않음. 단어를 추가하면 색인처럼 끝에 덧붙임
+// 중복 검사와 삭제할 단어 찾기는 매핑한 해시 표 파일(words.txt.hash.N)로 O(1)에 처리
+//
+// 파일 이름 끝의 N은 세대 번호. 다시 만들 때는 항상 새 세대 번호의 파일에 쓰고 그 파일을 매핑하므로,
+// 매핑 중인 파일을 덮어쓰거나 교체하지 않음 (Windows에서는 매핑된 파일을 교체할 수 없음)
+// 헤더는 내용을 모두 쓴 뒤 마지막에 쓰므로 중간에 중단된 파일은 헤더가 맞지 않아 쓰이지 않음
+// 이전 세대 파일은 다음에 열 때 지우고, 지우지 못하면(아직 매핑 중 등) 그대로 둠
+//
+// 삭제는 단어 파일을 다시 쓰지 않고 삭제 기록 파일(words.txt.del)에 "번호\t단어" 한 줄을 덧붙인 뒤 메모리에서만 빼고,
+// 시작할 때 기록을 다시 적용함. 기록이 COMPACT_THRESHOLD개 이상 쌓이면 시작할 때(아무것도 매핑하기 전)
+// 삭제한 줄을 뺀 단어 파일로 한 번에 교체함
+// 단어 파일은 UTF-8, 한 줄에 한 단어. 매핑 한계로 2GB 이하의 파일만 지원
+public class MappedTextRepository implements TextRepository {
+
+    private static final int INDEX_MAGIC = 0x57494458; // "WIDX"
+    private static final int CLASS_MAGIC = 0x57434C53; // "WCLS"
+    private static final int BUCKET_MAGIC = 0x57494453; // "WIDS"
+    private static final int HASH_MAGIC = 0x57485348;  // "WHSH"
+    private static final int FORMAT_VERSION = 1;
+    // 색인/분류/해시 파일 공통 헤더: magic(int) version(int) 단어 파일 크기(long) 수정 시각(long) 단어 수(int)
+    // 색인 파일은 헤더 뒤에 줄 시작 위치(int) 배열, 분류 파일은 헤더 뒤에 단어별 난이도(byte) 배열,
+    // 난이도별 번호 파일은 헤더 뒤에 그 난이도 단어의 번호(int) 배열,
+    // 해시 표 파일은 헤더 뒤에 2의 거듭제곱 개의 칸(int, 단어 번호 + 1, 0이면 빈칸)을 선형 탐사로 채움
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+    private static final int COUNT_POSITION = HEADER_BYTES - 4;
+    private static final int MAX_HASH_CAPACITY = 1 << 28; // 매핑 한계(2GB) 안에 들어가는 가장 큰 표
+
+    private static final String INDEX_KIND = "idx";
+    private static final String CLASS_KIND = "cls";
+    private static final String HASH_KIND = "hash";
+
+    private static final int COMPACT_THRESHOLD = 1024; // 시작할 때 단어 파일을 다시 쓰는 삭제 기록 수
+
+    private final Path wordPath;
+    private final Path removalPath;
+    private Path indexPath;
+    private Path classPath;
+    private Path hashPath;
+    private final Path[] bucketPaths = new Path[Difficulty.values().length];
+    private final Random random = new Random();
+
+    private MappedByteBuffer words;     // 매핑된 단어 파일
+    private IntBuffer offsets;          // 매핑된 색인의 줄 시작 위치 배열
+    private MappedByteBuffer classes;   // 매핑된 분류 파일 (헤더 포함)
+    private MappedByteBuffer hashTable; // 매핑된 해시 표 파일 (헤더 포함, 읽기/쓰기)
+    private int hashCapacity = 0;       // 해시 표의 칸 수
+    private int mappedCount = 0;        // 매핑된 색인의 단어 수
+    private boolean endsWithNewline = true; // 단어 파일이 줄바꿈으로 끝나는지 (덧붙이기 전 확인)
+
+    // 매핑된 난이도별 단어 번호 목록
+    private final IntBuffer[] bucketIds = new IntBuffer[Difficulty.values().length];
+    private final int[] bucketSizes = new int[Difficulty.values().length];
+
+    // 삭제한 단어 번호 -> 단어 (단어 파일에는 아직 남아 있음)
+    private final Map<Integer, String> removed = new LinkedHashMap<Integer, String>();
+    // 삭제를 반영한 전체 단어와 난이도별 단어 보기
+    private View all = new View(null, 0);
+    private final View[] buckets = new View[Difficulty.values().length];
+
+    // 지표 (지연 시간 기록에 포함). 다시 만들지 않았으면 -1
+    private long mapMillis = -1;      // 생성자에서 처음 여는 데 걸린 시간
+    private long indexMillis = -1;    // 마지막으로 색인을 만든 시간
+    private long classifyMillis = -1; // 마지막으로 난이도를 분류한 시간
+
+    public MappedTextRepository(String filePath) {
+        this.wordPath = Path.of(filePath);
+        this.removalPath = Path.of(filePath + ".del");
+        long start = System.nanoTime();
+        try {
+            if (!Files.exists(wordPath) || Files.size(wordPath) == 0) {
+                writeDefaultWords();
+            }
+            Map<Integer, String> pending = readRemovals();
+            if (pending.size() >= COMPACT_THRESHOLD) {
+                try {
+                    compact(pending);
+                    pending.clear();
+                } catch (IOException e) {
+                    System.err.println("단어 삭제 반영 실패: " + e.getMessage());
+                }
+            }
+            open();
+            for (Map.Entry<Integer, String> entry : pending.entrySet()) {
+                int id = entry.getKey();
+                // 기록 이후 단어 파일이 바뀌었으면 번호와 단어가 맞지 않으므로 적용하지 않음
+                if (id >= 0 && id < mappedCount && !removed.containsKey(id) && wordAt(id).equals(entry.getValue())) {
+                    markRemoved(id, entry.getValue());
+                }
+            }
+            deleteStaleGenerations();
+            mapMillis = (System.nanoTime() - start) / 1_000_000;
+        } catch (IOException e) {
+            System.err.println("word file 매핑 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized String getRandomWord() {
+        if (all.size() == 0) {
+            return "empty";
+        }
+        return wordAt(all.idAt(random.nextInt(all.size())));
+    }
+
+    // 해당 난이도의 단어 번호 목록에서 O(1)로 뽑음. difficulty가 null이거나 그 난이도의 단어가 없으면 전체 단어에서 뽑음
+    @Override
+    public synchronized String getRandomWord(Difficulty difficulty) {
+        if (difficulty == null) {
+            return getRandomWord();
+        }
+        View bucket = buckets[difficulty.ordinal()];
+        if (bucket == null || bucket.size() == 0) {
+            return getRandomWord();
+        }
+        return wordAt(bucket.idAt(random.nextInt(bucket.size())));
+    }
+
+    @Override
+    public synchronized int countWords(Difficulty difficulty) {
+        View view = view(difficulty);
+        return (view == null) ? 0 : view.size();
+    }
+
+    // 매핑된 번호 목록에서 단어 하나만 디코딩
+    @Override
+    public synchronized String wordAt(Difficulty difficulty, int index) {
+        if (index < 0 || index >= countWords(difficulty)) {
+            return null;
+        }
+        return wordAt(view(difficulty).idAt(index));
+    }
+
+    @Override
+    public boolean addWord(String word) {
+        return addWords(Collections.singletonList(word)) == 1;
+    }
+
+    // 새 단어들을 단어 파일 끝에 한 번에 덧붙이고 색인에도 그 위치들을 덧붙임 (파일 전체를 다시 쓰지 않음)
+    // 중복 검사는 해시 표에서 단어마다 O(1)
+    @Override
+    public synchronized int addWords(Collection<String> newWords) {
+        if (words == null) {
+            return 0;
+        }
+        Set<String> batch = new LinkedHashSet<String>();
+        for (String word : newWords) {
+            String normalized = TextRepository.normalizeWord(word);
+            if (normalized != null) {
+                batch.add(normalized);
+            }
+        }
+        Iterator<String> iterator = batch.iterator();
+        while (iterator.hasNext()) {
+            if (!findLive(iterator.next().getBytes(StandardCharsets.UTF_8)).isEmpty()) {
+                iterator.remove();
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 덧붙일 내용과 각 줄의 시작 위치(기존 파일 끝 기준 상대 위치)를 미리 만들어 한 번에 씀
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        int[] relativeOffsets = new int[batch.size()];
+        if (!endsWithNewline) {
+            content.write('\n');
+        }
+        int n = 0;
+        for (String word : batch) {
+            relativeOffsets[n++] = content.size();
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            content.write(bytes, 0, bytes.length);
+            content.write('\n');
+        }
+        try {
+            long base;
+            try (FileChannel channel = FileChannel.open(wordPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                base = channel.size();
+                if (base + content.size() > Integer.MAX_VALUE) {
+                    throw new IOException("단어 파일이 2GB를 넘게 됨: " + wordPath);
+                }
+                writeFully(channel, ByteBuffer.wrap(content.toByteArray()));
+            }
+            byte[] addedClasses = new byte[batch.size()];
+            n = 0;
+            for (String word : batch) {
+                addedClasses[n++] = (byte) WordClassifier.classify(word).ordinal(); // 추가하는 단어만 한 번씩 분류
+            }
+            appendToIndex(base, relativeOffsets);
+            appendToClasses(addedClasses);
+            appendToBuckets(addedClasses);
+            appendToHash(batch);
+            open(); // 갱신된 색인은 단어 파일과 맞으므로 다시 만들지 않고 매핑만 새로 함
+        } catch (IOException e) {
+            System.err.println("word file 쓰기 실패: " + e.getMessage());
+            return 0;
+        }
+        return batch.size();
+    }
+
+    // 해시 표에서 단어를 찾아 삭제 기록에 한 줄 덧붙이고 메모리에서만 뺌 (단어 파일과 색인은 그대로 둠)
+    // 같은 단어가 여러 줄에 있으면 모두 삭제
+    @Override
+    public synchronized boolean removeWord(String word) {
+        if (word == null || words == null) {
+            return false;
+        }
+        String trimmed = word.trim();
+        List<Integer> ids = findLive(trimmed.getBytes(StandardCharsets.UTF_8));
+        if (ids.isEmpty()) {
+            return false;
+        }
+        StringBuilder records = new StringBuilder();
+        for (int id : ids) {
+            records.append(id).append('\t').append(trimmed).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(removalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            System.err.println("word file 쓰기 실패: " + e.getMessage());
+            return false;
+        }
+        for (int id : ids) {
+            markRemoved(id, trimmed);
+        }
+        return true;
+    }
+
+    // 매핑한 단어 수와 여는 데 걸린 시간 요약. 색인이나 분류를 다시 만들지 않았으면 그 항목은 "재사용"
+    public synchronized String getStatsText() {
+        return "단어 파일 매핑: " + all.size() + "개 단어 (삭제 표시 " + removed.size() + "개), 열기 " + mapMillis + "ms"
+                + ", 색인 " + ((indexMillis < 0) ? "재사용" : "생성 " + indexMillis + "ms")
+                + ", 난이도 분류 " + ((classifyMillis < 0) ? "재사용" : classifyMillis + "ms");
+    }
+
+    // 모든 단어를 디코딩하여 반환 (단어 편집 화면용). 이 목록만큼은 힙을 사용함
+    @Override
+    public synchronized List<String> getAllWords() {
+        return decodeAll(all);
+    }
+
+    // difficulty가 null이면 전체 단어 (countWords, wordAt과 같음)
+    @Override
+    public synchronized List<String> getWords(Difficulty difficulty) {
+        return decodeAll(view(difficulty));
+    }
+
+    private List<String> decodeAll(View view) {
+        if (view == null) {
+            return new ArrayList<String>();
+        }
+        List<String> result = new ArrayList<String>(view.size());
+        for (int i = 0; i < view.size(); i++) {
+            result.add(wordAt(view.idAt(i)));
+        }
+        return result;
+    }
+
+    private View view(Difficulty difficulty) {
+        return (difficulty == null) ? all : buckets[difficulty.ordinal()];
+    }
+
+    // 삭제 표시하고 보기에서 뺌
+    private void markRemoved(int id, String word) {
+        removed.put(id, word);
+        all.remove(id);
+        buckets[classes.get(HEADER_BYTES + id)].remove(id);
+    }
+
+    // 매핑된 번호 목록으로 보기를 새로 만들고 삭제 표시한 단어를 다시 뺌
+    private void resetViews() {
+        all = new View(null, mappedCount);
+        for (int d = 0; d < buckets.length; d++) {
+            buckets[d] = new View(bucketIds[d], bucketSizes[d]);
+        }
+        for (int id : removed.keySet()) {
+            if (id < mappedCount) {
+                all.remove(id);
+                buckets[classes.get(HEADER_BYTES + id)].remove(id);
+            }
+        }
+    }
+
+    // 해시 표에서 bytes와 같은 줄 중 삭제하지 않은 단어의 번호들
+    private List<Integer> findLive(byte[] bytes) {
+        List<Integer> ids = new ArrayList<Integer>(1);
+        if (hashTable == null) {
+            return ids;
+        }
+        int mask = hashCapacity - 1;
+        for (int slot = spread(Arrays.hashCode(bytes)) & mask; ; slot = (slot + 1) & mask) {
+            int value = hashTable.getInt(HEADER_BYTES + slot * 4);
+            if (value == 0) {
+                return ids;
+            }
+            int id = value - 1;
+            if (!removed.containsKey(id) && lineEquals(id, bytes)) {
+                ids.add(id);
+            }
+        }
+    }
+
+    // id번째 줄(앞뒤 공백 제외)의 바이트가 bytes와 같은지
+    private boolean lineEquals(int id, byte[] bytes) {
+        int start = offsets.get(id);
+        int end = lineEnd(start);
+        start = trimStart(start, end);
+        end = trimEnd(start, end);
+        if (bytes.length != end - start) {
+            return false;
+        }
+        for (int j = 0; j < bytes.length; j++) {
+            if (words.get(start + j) != bytes[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // String.trim과 같이 앞뒤의 공백/제어 문자(0x20 이하) 제외
+    private int trimStart(int start, int end) {
+        while (start < end && (words.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && (words.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    // start에서 시작하는 줄의 끝(줄바꿈 위치 또는 파일 끝)
+    private int lineEnd(int start) {
+        int end = start;
+        int limit = words.limit();
+        while (end < limit && words.get(end) != '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    // i번째 단어. 줄 시작 위치부터 줄바꿈까지 디코딩
+    private String wordAt(int i) {
+        int start = offsets.get(i);
+        int end = lineEnd(start);
+        byte[] bytes = new byte[end - start];
+        words.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+
+    // 단어 파일, 색인, 분류, 해시 표 파일을 매핑. 맞는 세대가 없으면 새 세대 번호로 다시 만듦
+    private void open() throws IOException {
+        long length = Files.size(wordPath);
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("2GB를 넘는 단어 파일은 지원하지 않음: " + wordPath);
+        }
+        try (FileChannel channel = FileChannel.open(wordPath, StandardOpenOption.READ)) {
+            words = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+        endsWithNewline = (length == 0) || words.get((int) length - 1) == '\n';
+
+        long modified = Files.getLastModifiedTime(wordPath).toMillis();
+        boolean rebuilt = false;
+
+        indexPath = findValid(indexPath, INDEX_KIND, INDEX_MAGIC, length, modified, 4, -1);
+        if (indexPath == null) {
+            long start = System.nanoTime();
+            indexPath = nextGeneration(INDEX_KIND);
+            buildIndex(indexPath, length, modified);
+            indexMillis = (System.nanoTime() - start) / 1_000_000;
+            rebuilt = true;
+        }
+        MappedByteBuffer index = map(indexPath, FileChannel.MapMode.READ_ONLY);
+        mappedCount = index.getInt(COUNT_POSITION);
+        offsets = index.slice(HEADER_BYTES, mappedCount * 4).asIntBuffer();
+
+        classPath = findValid(classPath, CLASS_KIND, CLASS_MAGIC, length, modified, 1, mappedCount);
+        if (classPath == null) {
+            long start = System.nanoTime();
+            classPath = nextGeneration(CLASS_KIND);
+            buildClasses(classPath, length, modified);
+            classifyMillis = (System.nanoTime() - start) / 1_000_000;
+            rebuilt = true;
+        }
+        classes = map(classPath, FileChannel.MapMode.READ_ONLY);
+
+        // 번호 수의 합이 단어 수와 같아야 함. 하나라도 맞지 않으면 모든 난이도를 분류 파일에서 다시 만듦 (다시 분류하지 않음)
+        long total = 0;
+        for (Difficulty difficulty : Difficulty.values()) {
+            int d = difficulty.ordinal();
+            bucketPaths[d] = findValid(bucketPaths[d], bucketKind(difficulty), BUCKET_MAGIC, length, modified, 4, -1);
+            total = (bucketPaths[d] == null) ? -1 : total + headerCount(bucketPaths[d]);
+            if (total < 0) {
+                break;
+            }
+        }
+        if (total != mappedCount) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                bucketPaths[difficulty.ordinal()] = nextGeneration(bucketKind(difficulty));
+            }
+            buildBuckets(length, modified);
+            rebuilt = true;
+        }
+        for (int d = 0; d < bucketPaths.length; d++) {
+            MappedByteBuffer bucket = map(bucketPaths[d], FileChannel.MapMode.READ_ONLY);
+            bucketSizes[d] = bucket.getInt(COUNT_POSITION);
+            bucketIds[d] = bucket.slice(HEADER_BYTES, bucketSizes[d] * 4).asIntBuffer();
+        }
+
+        hashPath = findValid(hashPath, HASH_KIND, HASH_MAGIC, length, modified, 4, mappedCount);
+        if (hashPath != null) {
+            hashTable = map(hashPath, FileChannel.MapMode.READ_WRITE);
+            hashCapacity = (hashTable.capacity() - HEADER_BYTES) / 4;
+            if (Integer.bitCount(hashCapacity) != 1 || hashCapacity <= mappedCount) {
+                hashPath = null;
+            }
+        }
+        if (hashPath == null) {
+            hashPath = nextGeneration(HASH_KIND);
+            buildHash(hashPath, length, modified);
+            hashTable = map(hashPath, FileChannel.MapMode.READ_WRITE);
+            hashCapacity = (hashTable.capacity() - HEADER_BYTES) / 4;
+            rebuilt = true;
+        }
+
+        resetViews();
+        if (rebuilt) {
+            deleteStaleGenerations();
+        }
+    }
+
+    private static String bucketKind(Difficulty difficulty) {
+        return difficulty.name().toLowerCase() + ".ids";
+    }
+
+    // kind 파일의 세대 중 헤더가 단어 파일과 맞는 가장 새 파일. 없으면 null
+    // 지금 쓰는 파일(current)이 맞으면 디렉터리를 훑지 않고 그대로 씀 (단어를 덧붙인 뒤 다시 열 때)
+    // 헤더만 읽어 확인하므로 맞지 않는 파일은 매핑하지 않음
+    private Path findValid(Path current, String kind, int magic, long length, long modified, int entryBytes,
+                           int expectedCount) throws IOException {
+        if (current != null && headerMatches(current, magic, length, modified, entryBytes, expectedCount)) {
+            return current;
+        }
+        for (Path path : generations(kind)) {
+            if (headerMatches(path, magic, length, modified, entryBytes, expectedCount)) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    private static boolean headerMatches(Path path, int magic, long length, long modified, int entryBytes,
+                                         int expectedCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    return false;
+                }
+            }
+            if (header.getInt(0) != magic || header.getInt(4) != FORMAT_VERSION
+                    || header.getLong(8) != length || header.getLong(16) != modified) {
+                return false;
+            }
+            int count = header.getInt(COUNT_POSITION);
+            return count >= 0 && (expectedCount < 0 || count == expectedCount)
+                    && HEADER_BYTES + (long) count * entryBytes <= channel.size();
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static int headerCount(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer count = ByteBuffer.allocate(4);
+            while (count.hasRemaining()) {
+                if (channel.read(count, COUNT_POSITION + count.position()) < 0) {
+                    throw new IOException("헤더를 읽을 수 없음: " + path);
+                }
+            }
+            return count.getInt(0);
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = (mode == FileChannel.MapMode.READ_WRITE)
+                ? new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[] {StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(mode, 0, channel.size());
+        }
+    }
+
+    // kind 파일의 세대들을 새것부터 반환. 이름은 words.txt.idx.3처럼 세대 번호가 붙고, 번호가 없는 이전 형식 파일은 0세대
+    private List<Path> generations(String kind) throws IOException {
+        String base = wordPath.getFileName() + "." + kind;
+        Path directory = wordPath.toAbsolutePath().getParent();
+        List<Path> result = new ArrayList<Path>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, p -> generationOf(p, base) >= 0)) {
+            for (Path path : stream) {
+                result.add(path);
+            }
+        }
+        result.sort((a, b) -> Integer.compare(generationOf(b, base), generationOf(a, base)));
+        return result;
+    }
+
+    // 파일 이름의 세대 번호. base로 시작하지 않거나 뒤에 숫자가 아닌 것이 붙으면 -1
+    private static int generationOf(Path path, String base) {
+        String name = path.getFileName().toString();
+        if (name.equals(base)) {
+            return 0;
+        }
+        if (!name.startsWith(base + ".")) {
+            return -1;
+        }
+        String suffix = name.substring(base.length() + 1);
+        if (suffix.isEmpty() || suffix.length() > 9) {
+            return -1;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(suffix);
+    }
+
+    // 지금까지의 어떤 세대보다 큰 번호의 새 파일 경로 (중단되어 헤더가 없는 파일의 번호도 건너뜀)
+    private Path nextGeneration(String kind) throws IOException {
+        String base = wordPath.getFileName() + "." + kind;
+        List<Path> existing = generations(kind);
+        int next = existing.isEmpty() ? 1 : generationOf(existing.get(0), base) + 1;
+        return wordPath.resolveSibling(base + "." + next);
+    }
+
+    // 지금 쓰는 세대가 아닌 파일들을 지움. 매핑이 남아 있어 지울 수 없는 파일은 다음에 열 때 다시 시도
+    private void deleteStaleGenerations() {
+        List<String> kinds = new ArrayList<String>(Arrays.asList(INDEX_KIND, CLASS_KIND, HASH_KIND));
+        List<Path> current = new ArrayList<Path>(Arrays.asList(indexPath, classPath, hashPath));
+        for (Difficulty difficulty : Difficulty.values()) {
+            kinds.add(bucketKind(difficulty));
+            current.add(bucketPaths[difficulty.ordinal()]);
+        }
+        for (int k = 0; k < kinds.size(); k++) {
+            try {
+                for (Path path : generations(kinds.get(k))) {
+                    if (!path.getFileName().equals(current.get(k).getFileName())) {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            } catch (IOException e) {
+                // 다음에 열 때 다시 시도
+            }
+        }
+    }
+
+    // 단어 파일을 한 번 훑어 비어 있지 않은 줄의 시작 위치를 새 색인 파일에 기록
+    private void buildIndex(Path path, long length, long modified) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.position(HEADER_BYTES); // 헤더는 단어 수를 센 뒤에 씀
+            int count = 0;
+            int lineStart = 0;
+            int end = (int) length;
+            for (int i = 0; i <= end; i++) {
+                if (i < end && words.get(i) != '\n') {
+                    continue;
+                }
+                if (!isBlank(words, lineStart, i)) {
+                    if (!buffer.hasRemaining()) {
+                        buffer.flip();
+                        writeFully(out, buffer);
+                        buffer.clear();
+                    }
+                    buffer.putInt(lineStart);
+                    count++;
+                }
+                lineStart = i + 1;
+            }
+            buffer.flip();
+            writeFully(out, buffer);
+            out.force(true);
+            writeHeader(out, INDEX_MAGIC, length, modified, count);
+            out.force(true);
+        }
+    }
+
+    // 색인의 모든 단어를 디코딩하여 한 번씩 분류하고 난이도를 새 분류 파일에 기록
+    private void buildClasses(Path path, long length, long modified) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.position(HEADER_BYTES);
+            for (int i = 0; i < mappedCount; i++) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    writeFully(out, buffer);
+                    buffer.clear();
+                }
+                buffer.put((byte) WordClassifier.classify(wordAt(i)).ordinal());
+            }
+            buffer.flip();
+            writeFully(out, buffer);
+            out.force(true);
+            writeHeader(out, CLASS_MAGIC, length, modified, mappedCount);
+            out.force(true);
+        }
+    }
+
+    // 분류 파일을 난이도마다 한 번씩 훑어 그 난이도 단어의 번호를 새 번호 파일에 기록
+    private void buildBuckets(long length, long modified) throws IOException {
+        for (int d = 0; d < bucketPaths.length; d++) {
+            try (FileChannel out = FileChannel.open(bucketPaths[d],
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+                buffer.position(HEADER_BYTES);
+                int count = 0;
+                for (int i = 0; i < mappedCount; i++) {
+                    if (classes.get(HEADER_BYTES + i) != d) {
+                        continue;
+                    }
+                    if (!buffer.hasRemaining()) {
+                        buffer.flip();
+                        writeFully(out, buffer);
+                        buffer.clear();
+                    }
+                    buffer.putInt(i);
+                    count++;
+                }
+                buffer.flip();
+                writeFully(out, buffer);
+                out.force(true);
+                writeHeader(out, BUCKET_MAGIC, length, modified, count);
+                out.force(true);
+            }
+        }
+    }
+
+    // 모든 줄의 해시로 새 해시 표 파일을 채움. 채움 비율이 1/2 이하가 되도록 칸 수를 정함
+    // 표는 매핑해서 채우므로 단어 수만큼의 힙을 쓰지 않음
+    private void buildHash(Path path, long length, long modified) throws IOException {
+        int capacity = 16;
+        while (capacity < mappedCount * 2L + 2) {
+            if (capacity >= MAX_HASH_CAPACITY) {
+                throw new IOException("단어가 너무 많아 해시 표를 만들 수 없음: " + mappedCount);
+            }
+            capacity <<= 1;
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + capacity * 4L);
+            for (int i = 0; i < mappedCount; i++) {
+                int start = offsets.get(i);
+                int end = lineEnd(start);
+                start = trimStart(start, end);
+                end = trimEnd(start, end);
+                int hash = 1; // Arrays.hashCode(byte[])와 같은 계산
+                for (int j = start; j < end; j++) {
+                    hash = 31 * hash + words.get(j);
+                }
+                insert(table, capacity, hash, i);
+            }
+            table.force();
+            table.putInt(0, HASH_MAGIC).putInt(4, FORMAT_VERSION)
+                    .putLong(8, length).putLong(16, modified).putInt(COUNT_POSITION, mappedCount);
+            table.force();
+        }
+    }
+
+    // 새로 덧붙인 단어들을 해시 표에 넣고 헤더 갱신
+    // 넣은 뒤 채움 비율이 2/3을 넘게 되면 그대로 두어, 이어지는 open에서 더 큰 표를 새 세대로 만들게 함
+    private void appendToHash(Collection<String> batch) throws IOException {
+        long total = (long) mappedCount + batch.size();
+        if (hashTable == null || total * 3 > (long) hashCapacity * 2) {
+            return;
+        }
+        int id = mappedCount;
+        for (String word : batch) {
+            insert(hashTable, hashCapacity, Arrays.hashCode(word.getBytes(StandardCharsets.UTF_8)), id++);
+        }
+        hashTable.force();
+        long length = Files.size(wordPath);
+        long modified = Files.getLastModifiedTime(wordPath).toMillis();
+        hashTable.putLong(8, length).putLong(16, modified).putInt(COUNT_POSITION, (int) total);
+        hashTable.force();
+    }
+
+    private static void insert(ByteBuffer table, int capacity, int hash, int id) {
+        int mask = capacity - 1;
+        int slot = spread(hash) & mask;
+        while (table.getInt(HEADER_BYTES + slot * 4) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table.putInt(HEADER_BYTES + slot * 4, id + 1);
+    }
+
+    // 짧은 단어의 해시는 아래쪽 비트가 고르지 않으므로 섞어서 칸을 정함
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void writeHeader(FileChannel out, int magic, long length, long modified, int count)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(magic).putInt(FORMAT_VERSION).putLong(length).putLong(modified).putInt(count);
+        header.flip();
+        out.write(header, 0);
+    }
+
+    // 새로 덧붙인 줄들의 위치를 색인 끝에 추가하고 헤더의 파일 크기, 수정 시각, 단어 수를 갱신
+    private void appendToIndex(long base, int[] relativeOffsets) throws IOException {
+        long length = Files.size(wordPath);
+        long modified = Files.getLastModifiedTime(wordPath).toMillis();
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.WRITE)) {
+            ByteBuffer entries = ByteBuffer.allocate(relativeOffsets.length * 4);
+            for (int offset : relativeOffsets) {
+                entries.putInt((int) (base + offset));
+            }
+            entries.flip();
+            long position = HEADER_BYTES + (long) mappedCount * 4;
+            while (entries.hasRemaining()) {
+                position += channel.write(entries, position);
+            }
+            updateHeader(channel, length, modified, mappedCount + relativeOffsets.length);
+        }
+    }
+
+    // 새로 덧붙인 단어들의 난이도를 분류 파일 끝에 추가하고 헤더 갱신 (색인과 같은 단어 파일 크기, 수정 시각 기록)
+    private void appendToClasses(byte[] addedClasses) throws IOException {
+        long length = Files.size(wordPath);
+        long modified = Files.getLastModifiedTime(wordPath).toMillis();
+        try (FileChannel channel = FileChannel.open(classPath, StandardOpenOption.WRITE)) {
+            ByteBuffer entries = ByteBuffer.wrap(addedClasses);
+            long position = HEADER_BYTES + (long) mappedCount;
+            while (entries.hasRemaining()) {
+                position += channel.write(entries, position);
+            }
+            updateHeader(channel, length, modified, mappedCount + addedClasses.length);
+        }
+    }
+
+    // 새로 덧붙인 단어들의 번호를 난이도별 번호 파일 끝에 추가하고, 모든 번호 파일의 헤더 갱신
+    // (추가된 단어가 없는 난이도도 단어 파일 크기와 수정 시각은 맞춰야 다음에 열 때 다시 만들지 않음)
+    private void appendToBuckets(byte[] addedClasses) throws IOException {
+        long length = Files.size(wordPath);
+        long modified = Files.getLastModifiedTime(wordPath).toMillis();
+        for (int d = 0; d < bucketPaths.length; d++) {
+            ByteBuffer entries = ByteBuffer.allocate(addedClasses.length * 4);
+            for (int k = 0; k < addedClasses.length; k++) {
+                if (addedClasses[k] == d) {
+                    entries.putInt(mappedCount + k);
+                }
+            }
+            entries.flip();
+            int added = entries.remaining() / 4;
+            try (FileChannel channel = FileChannel.open(bucketPaths[d], StandardOpenOption.WRITE)) {
+                long position = HEADER_BYTES + (long) bucketSizes[d] * 4;
+                while (entries.hasRemaining()) {
+                    position += channel.write(entries, position);
+                }
+                updateHeader(channel, length, modified, bucketSizes[d] + added);
+            }
+        }
+    }
+
+    // 헤더의 단어 파일 크기, 수정 시각, 단어 수 갱신
+    private static void updateHeader(FileChannel channel, long length, long modified, int count) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES - 8);
+        header.putLong(length).putLong(modified).putInt(count);
+        header.flip();
+        channel.write(header, 8);
+    }
+
+    // 삭제 기록 파일("번호\t단어" 줄들)을 읽음. 없으면 빈 맵
+    // 중단되어 잘린 마지막 줄은 번호나 단어가 맞지 않으므로 적용되지 않음
+    private Map<Integer, String> readRemovals() throws IOException {
+        Map<Integer, String> result = new LinkedHashMap<Integer, String>();
+        if (!Files.exists(removalPath)) {
+            return result;
+        }
+        String text = new String(Files.readAllBytes(removalPath), StandardCharsets.UTF_8);
+        for (String line : text.split("\n")) {
+            int tab = line.indexOf('\t');
+            if (tab <= 0) {
+                continue;
+            }
+            try {
+                result.put(Integer.parseInt(line.substring(0, tab)), line.substring(tab + 1));
+            } catch (NumberFormatException e) {
+                // 잘못된 줄은 무시
+            }
+        }
+        return result;
+    }
+
+    // 삭제 기록을 단어 파일에 반영: 삭제한 줄을 뺀 단어 파일을 임시 파일에 쓰고 원자적으로 교체한 뒤 기록을 지움
+    // 생성자에서 아무것도 매핑하기 전에만 호출 (매핑된 파일은 교체할 수 없는 OS가 있음)
+    // 번호와 단어가 모두 맞는 줄만 빼므로, 기록 이후 단어 파일이 바뀌었어도 다른 단어를 지우지 않음
+    private void compact(Map<Integer, String> removals) throws IOException {
+        Path tempPath = Path.of(wordPath + ".tmp");
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(wordPath));
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int id = 0; // 색인과 같이 비어 있지 않은 줄만 번호를 매김
+            for (int b = in.read(); ; b = in.read()) {
+                if (b != '\n' && b != -1) {
+                    line.write(b);
+                    continue;
+                }
+                if (b == -1 && line.size() == 0) {
+                    break;
+                }
+                byte[] bytes = line.toByteArray();
+                line.reset();
+                boolean keep = true;
+                if (!isBlank(ByteBuffer.wrap(bytes), 0, bytes.length)) {
+                    String removedWord = removals.get(id++);
+                    keep = removedWord == null || !new String(bytes, StandardCharsets.UTF_8).trim().equals(removedWord);
+                }
+                if (keep) {
+                    out.write(bytes);
+                    out.write('\n');
+                }
+                if (b == -1) {
+                    break;
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        moveAtomically(tempPath, wordPath);
+        Files.deleteIfExists(removalPath);
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeDefaultWords() throws IOException {
+        String defaults = "star\nmeteor\njava\nswing\nthread\ntyping\ngalaxy\nplanet\n";
+        Files.write(wordPath, defaults.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 매핑된 번호 목록(난이도별 번호 파일, 또는 null이면 0부터 n-1까지의 전체 단어) 위에 삭제를 반영한 보기
+    // 삭제할 때 마지막 자리의 번호를 빈자리로 옮기고(swap-remove) 옮긴 자리만 맵에 기록하므로 번호 목록은 복사하지 않음
+    // 옮겨지지 않은 번호의 자리는 오름차순인 번호 목록에서 이진 탐색으로 찾음
+    private static final class View {
+        private final IntBuffer ids;
+        private int size;
+        private final Map<Integer, Integer> movedIds = new HashMap<Integer, Integer>();       // 자리 -> 옮겨 온 번호
+        private final Map<Integer, Integer> movedPositions = new HashMap<Integer, Integer>(); // 옮겨 온 번호 -> 자리
+
+        View(IntBuffer ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int idAt(int position) {
+            Integer moved = movedIds.get(position);
+            if (moved != null) {
+                return moved;
+            }
+            return (ids == null) ? position : ids.get(position);
+        }
+
+        void remove(int id) {
+            int position = positionOf(id);
+            if (position < 0) {
+                return;
+            }
+            int last = size - 1;
+            int lastId = idAt(last);
+            movedIds.remove(last);
+            movedPositions.remove(id);
+            if (position != last) {
+                movedIds.put(position, lastId);
+                movedPositions.put(lastId, position);
+            }
+            size--;
+        }
+
+        // 번호의 지금 자리. 이미 빠졌으면 -1
+        private int positionOf(int id) {
+            Integer moved = movedPositions.get(id);
+            if (moved != null) {
+                return moved;
+            }
+            int position = (ids == null) ? id : binarySearch(id);
+            return (position >= 0 && position < size && idAt(position) == id) ? position : -1;
+        }
+
+        private int binarySearch(int id) {
+            int low = 0;
+            int high = ids.limit() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int value = ids.get(mid);
+                if (value < id) {
+                    low = mid + 1;
+                } else if (value > id) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package repository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// 점수별 기록 수를 펜윅 트리(Fenwick tree)로 유지하여 순위와 백분위를 O(log n)에 구하는 도우미
+// 점수 0 이상 domain 미만은 펜윅 트리에 세고, domain은 더 큰 점수가 들어오면 MAX_DOMAIN까지 두 배씩 늘림
+// 음수나 MAX_DOMAIN 이상의 점수(직접 고친 파일 등)는 드물기 때문에 TreeMap에 따로 셈
+class ScoreRankIndex {
+
+    private static final int INITIAL_DOMAIN = 1024;
+    private static final int MAX_DOMAIN = 1 << 20; // 펜윅 트리 최대 크기 (int 100만 개, 4MB)
+
+    private int[] tree = new int[INITIAL_DOMAIN + 1]; // 1부터 시작하는 펜윅 트리. 점수 s는 s + 1번 칸
+    private int domain = INITIAL_DOMAIN;              // 펜윅 트리가 세는 점수 범위 [0, domain)
+    private long inRange = 0;                         // 펜윅 트리에 든 기록 수
+
+    // 범위 밖 점수. 음수는 모든 범위 안 점수보다 낮고, MAX_DOMAIN 이상은 모두보다 높음
+    private final TreeMap<Integer, Integer> outliers = new TreeMap<Integer, Integer>();
+    private long lowOutliers = 0;
+    private long highOutliers = 0;
+
+    void clear() {
+        tree = new int[INITIAL_DOMAIN + 1];
+        domain = INITIAL_DOMAIN;
+        inRange = 0;
+        outliers.clear();
+        lowOutliers = 0;
+        highOutliers = 0;
+    }
+
+    void add(int score) {
+        if (score < 0 || score >= MAX_DOMAIN) {
+            outliers.merge(score, 1, Integer::sum);
+            if (score < 0) {
+                lowOutliers++;
+            } else {
+                highOutliers++;
+            }
+            return;
+        }
+        while (score >= domain) {
+            grow();
+        }
+        for (int i = score + 1; i <= domain; i += i & -i) {
+            tree[i]++;
+        }
+        inRange++;
+    }
+
+    // 전체 기록 수
+    long size() {
+        return inRange + lowOutliers + highOutliers;
+    }
+
+    // score보다 높은 기록 수
+    long countAbove(int score) {
+        return size() - countAtOrBelow(score);
+    }
+
+    // score 이하인 기록 수
+    long countAtOrBelow(int score) {
+        if (score < 0) {
+            return countOutliersAtOrBelow(score);
+        }
+        if (score >= MAX_DOMAIN) {
+            return inRange + countOutliersAtOrBelow(score); // 범위 안 기록은 모두 이하
+        }
+        return lowOutliers + prefix(Math.min(score, domain - 1));
+    }
+
+    // 점수 0..score의 기록 수 (펜윅 트리 접두 합)
+    private long prefix(int score) {
+        long sum = 0;
+        for (int i = score + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // 범위 밖 점수 중 score 이하인 기록 수. 범위 밖 점수는 드물어서 훑어도 됨
+    private long countOutliersAtOrBelow(int score) {
+        long sum = 0;
+        for (Map.Entry<Integer, Integer> entry : outliers.headMap(score, true).entrySet()) {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    // domain을 두 배로 늘림. 2의 거듭제곱 크기의 펜윅 트리는 기존 칸이 그대로 유지되고,
+    // 새로 생긴 칸 중 마지막 칸(전체 합)만 채우면 됨 (나머지는 아직 기록이 없는 범위)
+    private void grow() {
+        int next = domain * 2;
+        int[] grown = new int[next + 1];
+        System.arraycopy(tree, 0, grown, 0, tree.length);
+        grown[next] = tree[domain];
+        tree = grown;
+        domain = next;
+    }
+}
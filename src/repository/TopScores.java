@@ -0,0 +1,66 @@
+package repository;
+
+import data.ScoreEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 점수 기록을 저장된 순서대로 하나씩 받으면서 상위 limit개만 최소 힙에 유지하는 도우미 (메모리 O(limit))
+// 점수가 높을수록, 점수가 같으면 먼저 저장된 기록일수록 앞 순위
+class TopScores {
+
+    private static final Comparator<Ranked> BEST_FIRST = (a, b) -> {
+        if (a.entry.getScore() != b.entry.getScore()) {
+            return Integer.compare(b.entry.getScore(), a.entry.getScore());
+        }
+        return Long.compare(a.order, b.order);
+    };
+
+    private final int limit;
+    // 힙의 맨 앞은 지금까지의 상위 limit개 중 가장 낮은 순위
+    private final PriorityQueue<Ranked> heap;
+
+    // 같은 점수끼리의 순서를 유지하기 위해 저장 순서를 함께 보관
+    private static final class Ranked {
+        final ScoreEntry entry;
+        final long order;
+
+        Ranked(ScoreEntry entry, long order) {
+            this.entry = entry;
+            this.order = order;
+        }
+    }
+
+    TopScores(int limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<Ranked>(Math.min(Math.max(limit, 1), 1024) + 1, BEST_FIRST.reversed());
+    }
+
+    // 지금까지 받은 기록보다 나중에 저장된, 이 점수의 기록이 상위 limit개에 드는지 여부
+    // 기록 객체를 만들기 전에 확인하여 상위권 밖의 기록은 이름 문자열도 만들지 않게 함
+    boolean accepts(int score) {
+        return limit > 0 && (heap.size() < limit || score > heap.peek().entry.getScore());
+    }
+
+    // 기록 추가. accepts(entry.getScore())가 true일 때만 호출
+    void add(ScoreEntry entry, long order) {
+        if (heap.size() == limit) {
+            heap.poll();
+        }
+        heap.add(new Ranked(entry, order));
+    }
+
+    // 순위순으로 정렬된 상위 기록 목록
+    List<ScoreEntry> toList() {
+        Ranked[] top = heap.toArray(new Ranked[0]);
+        Arrays.sort(top, BEST_FIRST);
+        List<ScoreEntry> result = new ArrayList<ScoreEntry>(top.length);
+        for (Ranked ranked : top) {
+            result.add(ranked.entry);
+        }
+        return result;
+    }
+}
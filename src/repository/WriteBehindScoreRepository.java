@@ -0,0 +1,354 @@
+package repository;
+
+import data.ScoreEntry;
+import repository.interfaces.ScoreRepository;
+import util.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// 점수 저장을 큐에 넣고 바로 반환하는 ScoreRepository 데코레이터 (write-behind)
+// 전용 쓰기 스레드가 큐의 점수들을 모아(batch) 원본 리포지토리에 한 번에 저장하므로 EDT는 디스크를 기다리지 않음
+// 디스크 동기화(fsync) 시점은 SyncPolicy로 정함
+// 프로그램 종료 시 shutdown hook이 큐에 남은 점수를 모두 저장하고 동기화한 뒤 끝남
+// loadTopScores, rankOf, percentile은 원본 결과에 아직 저장되지 않은 점수를 합쳐서 답하므로 방금 저장한 점수도 바로 반영됨
+// 조회는 쓰기 스레드의 디스크 I/O를 기다리지 않음 (원본이 메모리에서 답하는 CachingScoreRepository일 때)
+public class WriteBehindScoreRepository implements ScoreRepository {
+
+    // 디스크 동기화 정책
+    public enum SyncPolicy {
+        EVERY_BATCH, // 묶음을 저장할 때마다 동기화 (가장 안전)
+        INTERVAL,    // 마지막 동기화 후 syncIntervalMillis가 지났을 때만 동기화
+        NEVER;       // 종료 시에만 동기화 (나머지는 운영체제에 맡김)
+
+        // 시스템 속성 값 등에서 정책 해석. 알 수 없는 값이면 기본 정책
+        public static SyncPolicy parse(String value, SyncPolicy defaultPolicy) {
+            if (value == null) {
+                return defaultPolicy;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("알 수 없는 점수 동기화 정책: " + value);
+                return defaultPolicy;
+            }
+        }
+    }
+
+    private static final int DEFAULT_MAX_BATCH = 256;
+    private static final long DEFAULT_LINGER_MILLIS = 20;     // 첫 점수가 들어온 뒤 묶음을 더 모으는 시간
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final long POLL_MILLIS = 100;              // flush 대기 중 쓰기 스레드 상태를 확인하는 주기
+
+    private final ScoreRepository delegate;
+    private final SyncPolicy syncPolicy;
+    private final int maxBatch;
+    private final long lingerMillis;
+    private final long syncIntervalMillis;
+
+    // 저장을 기다리는 점수들과, 큐에서 꺼냈지만 아직 원본 조회에 반영되지 않은 묶음 (둘 다 stateLock으로 보호)
+    // 큐에서 묶음으로 옮기는 일은 stateLock 안에서 한 번에 일어나고, 묶음은 원본 조회에 반영되는 순간(saveScores의 onVisible)
+    // 비우면서 visibleVersion을 올림. 조회는 이 버전으로 대기 목록과 원본 결과가 어긋났는지 확인하므로
+    // 점수가 빠지거나 두 번 세어지지 않음
+    // stateLock을 잡은 채로 디스크 I/O를 하지 않으므로 saveScore와 조회는 디스크를 기다리지 않음
+    private final Object stateLock = new Object();
+    private final ArrayDeque<ScoreEntry> queue = new ArrayDeque<ScoreEntry>();
+    private List<ScoreEntry> inFlight = Collections.emptyList();
+    private long visibleVersion = 0;      // 묶음이 원본 조회에 반영될 때마다 증가
+    private boolean batchWriting = false; // 쓰기 스레드가 묶음을 원본에 저장 중인지 (flush 대기용)
+
+    private final Thread writerThread;
+    private volatile boolean closed = false;
+    private long lastSyncMillis = System.currentTimeMillis();
+
+    // 지표
+    private final LatencyHistogram flushLatency = new LatencyHistogram(); // 묶음 저장(+동기화)에 걸린 시간
+    private volatile long batchesWritten = 0;
+    private volatile long entriesWritten = 0;
+    private volatile int maxBatchSize = 0;
+    private volatile int maxQueueDepth = 0;
+
+    public WriteBehindScoreRepository(ScoreRepository delegate, SyncPolicy syncPolicy) {
+        this(delegate, syncPolicy, DEFAULT_MAX_BATCH, DEFAULT_LINGER_MILLIS, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    public WriteBehindScoreRepository(ScoreRepository delegate, SyncPolicy syncPolicy,
+                                      int maxBatch, long lingerMillis, long syncIntervalMillis) {
+        this.delegate = delegate;
+        this.syncPolicy = syncPolicy;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.lingerMillis = Math.max(0, lingerMillis);
+        this.syncIntervalMillis = Math.max(0, syncIntervalMillis);
+
+        writerThread = new Thread(this::writeLoop, "score-writer");
+        writerThread.setDaemon(true); // 종료 시 남은 점수는 shutdown hook이 저장
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "score-writer-shutdown"));
+    }
+
+    // 큐에 넣고 바로 반환 (디스크 I/O 없음)
+    @Override
+    public void saveScore(ScoreEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        synchronized (stateLock) {
+            if (!closed) {
+                queue.add(entry);
+                if (queue.size() > maxQueueDepth) {
+                    maxQueueDepth = queue.size();
+                }
+                stateLock.notifyAll(); // 쓰기 스레드 깨움
+                return;
+            }
+        }
+        delegate.saveScore(entry); // 종료 이후의 저장은 바로 기록
+    }
+
+    @Override
+    public void saveScores(List<ScoreEntry> entries) {
+        for (ScoreEntry entry : entries) {
+            saveScore(entry);
+        }
+    }
+
+    // 큐에 있는 점수를 모두 저장하고 동기화할 때까지 대기
+    @Override
+    public void flush() {
+        synchronized (stateLock) {
+            while ((!queue.isEmpty() || batchWriting) && writerThread.isAlive()) {
+                try {
+                    stateLock.wait(POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        delegate.flush();
+    }
+
+    // 원본의 상위 목록과 아직 저장되지 않은 점수를 합쳐 상위 limit개 반환
+    @Override
+    public List<ScoreEntry> loadTopScores(int limit) {
+        List<ScoreEntry> pending = new ArrayList<ScoreEntry>();
+        List<ScoreEntry> merged = new ArrayList<ScoreEntry>(queryStored(() -> delegate.loadTopScores(limit), pending));
+        if (pending.isEmpty()) {
+            return merged;
+        }
+        merged.addAll(pending);
+        // 안정 정렬이므로 같은 점수는 먼저 저장된 것(원본, 저장 순서대로의 대기 점수)이 앞 순위를 유지
+        merged.sort(null);
+        return (merged.size() > limit) ? new ArrayList<ScoreEntry>(merged.subList(0, Math.max(limit, 0))) : merged;
+    }
+
+    @Override
+    public int[] loadAllScores() {
+        List<ScoreEntry> pending = new ArrayList<ScoreEntry>();
+        int[] stored = queryStored(delegate::loadAllScores, pending);
+        int[] scores = Arrays.copyOf(stored, stored.length + pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            scores[stored.length + i] = pending.get(i).getScore();
+        }
+        return scores;
+    }
+
+    @Override
+    public long countScores() {
+        List<ScoreEntry> pending = new ArrayList<ScoreEntry>();
+        return queryStored(delegate::countScores, pending) + pending.size();
+    }
+
+    // 원본의 순위에 아직 저장되지 않은 점수 중 더 높은 점수 수를 더함
+    @Override
+    public long rankOf(int score) {
+        List<ScoreEntry> pending = new ArrayList<ScoreEntry>();
+        long rank = queryStored(() -> delegate.rankOf(score), pending);
+        for (ScoreEntry entry : pending) {
+            if (entry.getScore() > score) {
+                rank++;
+            }
+        }
+        return rank;
+    }
+
+    // 원본의 기록 수와 순위로 이 점수 이하인 기록 수를 구한 뒤 대기 점수를 더함
+    @Override
+    public double percentile(int score) {
+        List<ScoreEntry> pending = new ArrayList<ScoreEntry>();
+        long[] stored = queryStored(() -> new long[] { delegate.countScores(), delegate.rankOf(score) }, pending);
+        long total = stored[0] + pending.size();
+        if (total == 0) {
+            return 100.0;
+        }
+        long atOrBelow = stored[0] - (stored[1] - 1); // 전체 - 더 높은 기록 수
+        for (ScoreEntry entry : pending) {
+            if (entry.getScore() <= score) {
+                atOrBelow++;
+            }
+        }
+        return atOrBelow * 100.0 / total;
+    }
+
+    // 원본 조회(query)를 실행하고, 그 결과에 아직 반영되지 않은 점수들(저장 중인 묶음 + 큐, 저장 순서대로)을 pendingOut에 채움
+    // 어떤 락도 잡지 않은 채 원본을 조회하므로 쓰기 스레드가 디스크에 쓰는 동안에도 기다리지 않음
+    // 조회 도중에 묶음 하나가 원본 조회에 반영되었다면(visibleVersion 변경) 대기 목록과 어긋나므로 다시 조회
+    private <T> T queryStored(Supplier<T> query, List<ScoreEntry> pendingOut) {
+        while (true) {
+            long version;
+            synchronized (stateLock) {
+                version = visibleVersion;
+                pendingOut.clear();
+                pendingOut.addAll(inFlight);
+                pendingOut.addAll(queue);
+            }
+            T result = query.get();
+            synchronized (stateLock) {
+                if (visibleVersion == version) {
+                    return result;
+                }
+            }
+        }
+    }
+
+    // 큐에 남은 점수를 모두 저장하고 동기화한 뒤 쓰기 스레드 종료 (shutdown hook에서 호출)
+    public void close() {
+        synchronized (stateLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            stateLock.notifyAll();
+        }
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            System.err.println("점수 쓰기 스레드가 제시간에 끝나지 않음. 대기 " + getQueueDepth() + "개");
+        }
+        delegate.flush();
+    }
+
+    // 쓰기 스레드: 먼저 원본을 미리 읽어 두고(첫 조회가 EDT에서 파일을 읽지 않도록),
+    // 이후 점수가 들어오면 lingerMillis 동안 더 모은 뒤 한 번에 저장. 종료 요청 후에는 큐를 비우고 끝남
+    // 인터럽트는 FileChannel을 닫아 버리므로 쓰지 않고 stateLock의 wait/notify로만 깨움
+    private void writeLoop() {
+        try {
+            delegate.preload();
+        } catch (RuntimeException e) {
+            System.err.println("점수 미리 읽기 실패: " + e.getMessage());
+        }
+        try {
+            while (true) {
+                boolean lingering;
+                synchronized (stateLock) {
+                    while (queue.isEmpty() && !closed) {
+                        stateLock.wait();
+                    }
+                    if (queue.isEmpty()) {
+                        break; // 종료 요청 후 큐가 비었음
+                    }
+                    lingering = !closed && queue.size() < maxBatch;
+                }
+                if (lingering && lingerMillis > 0) {
+                    Thread.sleep(lingerMillis); // 연달아 들어오는 점수를 한 묶음으로 모음
+                }
+                List<ScoreEntry> batch;
+                synchronized (stateLock) {
+                    batch = new ArrayList<ScoreEntry>(Math.min(queue.size(), maxBatch));
+                    while (!queue.isEmpty() && batch.size() < maxBatch) {
+                        batch.add(queue.poll());
+                    }
+                    inFlight = batch; // 원본 조회에 반영될 때까지 조회에서 보이도록 공개
+                    batchWriting = true;
+                }
+                writeBatch(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeBatch(List<ScoreEntry> batch) {
+        long start = System.nanoTime();
+        try {
+            try {
+                delegate.saveScores(batch, this::markBatchVisible);
+            } finally {
+                markBatchVisible(); // 저장이 실패해도 묶음을 대기 목록에서 내려놓음
+            }
+            long now = System.currentTimeMillis();
+            if (syncPolicy == SyncPolicy.EVERY_BATCH
+                    || (syncPolicy == SyncPolicy.INTERVAL && now - lastSyncMillis >= syncIntervalMillis)) {
+                delegate.flush();
+                lastSyncMillis = now;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("점수 저장 실패: " + e.getMessage());
+        } finally {
+            flushLatency.record(System.nanoTime() - start);
+            batchesWritten++;
+            entriesWritten += batch.size();
+            if (batch.size() > maxBatchSize) {
+                maxBatchSize = batch.size();
+            }
+            synchronized (stateLock) {
+                batchWriting = false;
+                stateLock.notifyAll(); // flush 대기 중인 스레드 깨움
+            }
+        }
+    }
+
+    // 저장 중인 묶음이 원본 조회에 반영되었으므로 대기 목록에서 내려놓음 (이미 내려놓았으면 무시)
+    private void markBatchVisible() {
+        synchronized (stateLock) {
+            if (!inFlight.isEmpty()) {
+                inFlight = Collections.emptyList();
+                visibleVersion++;
+            }
+        }
+    }
+
+    // 현재 큐에 대기 중인 점수 수
+    public int getQueueDepth() {
+        synchronized (stateLock) {
+            return queue.size();
+        }
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long getBatchesWritten() {
+        return batchesWritten;
+    }
+
+    public long getEntriesWritten() {
+        return entriesWritten;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    // 묶음 저장(+동기화)에 걸린 시간 분포
+    public LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    public String getMetricsText() {
+        return "점수 쓰기: " + entriesWritten + "개 / " + batchesWritten + "묶음 (최대 " + maxBatchSize + "개)"
+                + ", 대기 " + getQueueDepth() + "개 (최대 " + maxQueueDepth + "개)"
+                + ", 저장 시간 " + flushLatency.summary()
+                + ", 동기화 정책 " + syncPolicy;
+    }
+}
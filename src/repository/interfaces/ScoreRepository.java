@@ -9,7 +9,74 @@ public interface ScoreRepository {
     // 점수 저장
     void saveScore(ScoreEntry entry);
 
+    // 여러 점수를 순서대로 저장. 구현체는 한 번의 쓰기로 묶어서 처리할 수 있음
+    default void saveScores(List<ScoreEntry> entries) {
+        for (ScoreEntry entry : entries) {
+            saveScore(entry);
+        }
+    }
+
+    // 여러 점수를 저장하고, 그 점수들이 이 저장소의 조회 결과에 처음 반영되는 순간 onVisible을 한 번 실행
+    // 메모리에서 조회에 답하는 구현체는 조회와 겹치지 않게 실행하므로, 앞에서 대기 중인 점수를 따로 들고 있는 쪽은
+    // onVisible에서 그 점수를 내려놓으면 점수가 빠지거나 두 번 세어지지 않음
+    // 기본 구현은 저장이 끝난 뒤 실행하므로 그 사이 조회가 이미 새 점수를 볼 수 있음
+    default void saveScores(List<ScoreEntry> entries, Runnable onVisible) {
+        saveScores(entries);
+        onVisible.run();
+    }
+
+    // 처음 조회할 때 필요한 준비(파일 읽기 등)를 미리 해 둠. 시작할 때 작업 스레드에서 불러
+    // 첫 조회가 EDT에서 파일을 읽지 않게 함. 준비할 것이 없는 구현체는 아무것도 하지 않음
+    default void preload() {
+    }
+
+    // 지금까지 저장한 점수를 디스크에 확실히 기록 (fsync). 저장할 때마다 기록하는 구현체는 아무것도 하지 않음
+    default void flush() {
+    }
+
     // 상위 점수 목록 불러오기
     // limit: 불러올 최대 개수
     List<ScoreEntry> loadTopScores(int limit);
+
+    // 기록된 모든 점수 (순서 없음). 기본 구현은 모든 기록을 불러오므로 느림
+    default int[] loadAllScores() {
+        List<ScoreEntry> all = loadTopScores(Integer.MAX_VALUE);
+        int[] scores = new int[all.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = all.get(i).getScore();
+        }
+        return scores;
+    }
+
+    // 기록된 점수 개수
+    default long countScores() {
+        return loadAllScores().length;
+    }
+
+    // 이 점수가 기록된다면 몇 위인지 (1위부터). 이 점수보다 높은 기록 수 + 1이며, 같은 점수는 같은 순위
+    // 기본 구현은 모든 점수를 훑으므로, 순위를 자주 묻는 구현체는 재정의
+    default long rankOf(int score) {
+        long above = 0;
+        for (int recorded : loadAllScores()) {
+            if (recorded > score) {
+                above++;
+            }
+        }
+        return above + 1;
+    }
+
+    // 기록된 점수 중 이 점수 이하인 비율 (0~100). 기록이 없으면 100
+    default double percentile(int score) {
+        int[] all = loadAllScores();
+        if (all.length == 0) {
+            return 100.0;
+        }
+        long atOrBelow = 0;
+        for (int recorded : all) {
+            if (recorded <= score) {
+                atOrBelow++;
+            }
+        }
+        return atOrBelow * 100.0 / all.length;
+    }
 }
\ No newline at end of file
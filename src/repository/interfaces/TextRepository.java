@@ -1,15 +1,86 @@
 package repository.interfaces;
 
+import difficulty.Difficulty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 // 단어 저장소 인터페이스
 public interface TextRepository {
+    // 단어 최대 길이. 이보다 긴 단어는 화면에 다 보이지 않으므로 받지 않음
+    int MAX_WORD_LENGTH = 30;
+
     // 저장소에서 무작위 단어 하나를 가져옴
     String getRandomWord();
 
-    // 새로운 단어를 저장소에 추가
-    void addWord(String word);
+    // 해당 난이도로 분류된 단어 중 무작위 단어 하나를 가져옴. difficulty가 null이거나 그 난이도의 단어가 없으면 전체 단어에서 가져옴
+    String getRandomWord(Difficulty difficulty);
+
+    // 새로운 단어를 저장소에 추가. 유효하지 않거나 이미 있는 단어면 추가하지 않고 false
+    boolean addWord(String word);
+
+    // 여러 단어를 한 번에 추가하고 실제로 추가된 단어 수 반환
+    // 유효하지 않거나 이미 있는 단어는 건너뛰며, 저장은 한 번에 처리함
+    int addWords(Collection<String> words);
+
+    // 저장소에서 단어 삭제. 삭제했으면 true, 없는 단어면 false
+    boolean removeWord(String word);
 
     // 모든 단어 목록 반환
     List<String> getAllWords();
-}
\ No newline at end of file
+
+    // 해당 난이도로 분류된 단어 목록 반환. difficulty가 null이면 전체 단어 목록
+    List<String> getWords(Difficulty difficulty);
+
+    // 해당 난이도로 분류된 단어 수. difficulty가 null이면 전체 단어 수
+    int countWords(Difficulty difficulty);
+
+    // 해당 난이도로 분류된 단어 중 index번째 단어 (difficulty가 null이면 전체 단어 중). 범위를 벗어나면 null
+    // 목록 전체를 복사하지 않고 단어 하나만 읽으므로, 큰 사전에서 무작위로 뽑을 때 사용
+    // 단어를 추가/삭제하면 번호가 바뀔 수 있으므로 번호를 오래 들고 있지 말 것
+    String wordAt(Difficulty difficulty, int index);
+
+    // 텍스트 파일(UTF-8, 한 줄에 한 단어)의 단어들을 가져와 추가하고 실제로 추가된 단어 수 반환
+    // 파일을 한 줄씩 읽으며 검사하고 파일 안의 중복은 미리 제거한 뒤 addWords로 한 번에 추가
+    default int importWords(Path file) throws IOException {
+        Set<String> batch = new LinkedHashSet<String>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), 64 * 1024)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String word = normalizeWord(line);
+                if (word != null) {
+                    batch.add(word);
+                }
+                line = reader.readLine();
+            }
+        }
+        return addWords(batch);
+    }
+
+    // 저장할 형태로 정리한 단어 반환 (앞뒤 공백 제거). 비어 있거나, 너무 길거나, 제어 문자나 깨진 문자가 있으면 null
+    static String normalizeWord(String word) {
+        if (word == null) {
+            return null;
+        }
+        String trimmed = word.trim();
+        if (trimmed.isEmpty() || trimmed.length() > MAX_WORD_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (Character.isISOControl(c) || c == '\uFFFD') {
+                return null;
+            }
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,229 @@
+package ui;
+
+import controller.GameController;
+import controller.WorldSnapshot;
+
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+// 능동 렌더링 방식의 게임 화면
+// EDT의 repaint에 의존하지 않고, 전용 렌더링 스레드가 BufferStrategy(페이지 플립)로 직접 그림
+// 모니터 주사율에 맞춰 프레임 간격을 조절하고, 마감 시간을 놓친 프레임 수를 기록함
+// BufferStrategy를 만들 수 없는 환경에서는 AWT repaint를 이용하는 수동 렌더링으로 대체
+// 렌더링은 캔버스가 화면에 붙고 레이아웃으로 크기가 정해진 뒤에 시작함 (0x0 캔버스에 버퍼를 만들지 않도록)
+public class ActiveGroundCanvas extends Canvas implements GameView {
+
+    private static final int BUFFER_COUNT = 2; // 더블 버퍼링
+
+    private final GameController controller;
+    private final GroundRenderer renderer = new GroundRenderer(); // 렌더링 스레드(또는 대체 시 EDT)만 사용
+
+    private volatile boolean paused = false;    // 일시정지 상태
+    private volatile boolean rendering = false; // 렌더링 스레드 실행 플래그
+    private boolean startRequested = false;     // startRendering이 불렸지만 아직 크기가 정해지지 않아 기다리는 중
+    private volatile boolean passive = false;   // BufferStrategy 생성 실패로 수동 렌더링으로 대체되었는지 여부
+    private Thread renderThread = null;
+
+    // 프레임 통계 (렌더링 스레드에서만 갱신)
+    private volatile long framesRendered = 0;
+    private volatile long droppedFrames = 0;
+
+    public ActiveGroundCanvas(GameController controller) {
+        this.controller = controller;
+        setBackground(Color.BLACK);
+        setIgnoreRepaint(true); // 능동 렌더링 중에는 시스템 repaint 이벤트를 무시
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                startIfReady(); // 레이아웃으로 크기가 정해지면 기다리던 렌더링 시작
+            }
+        });
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        startIfReady();
+    }
+
+    @Override
+    public void requestFrame() {
+        // 능동 렌더링 중에는 렌더링 스레드가 스스로 프레임 간격을 맞추므로 요청을 무시
+        if (passive) {
+            repaint();
+        }
+    }
+
+    @Override
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        requestFrame();
+    }
+
+    // 캔버스가 아직 화면에 없거나 크기가 0이면 표시만 해 두고, addNotify나 크기 변경 때 시작
+    @Override
+    public synchronized void startRendering() {
+        startRequested = true;
+        startIfReady();
+    }
+
+    private synchronized void startIfReady() {
+        if (!startRequested || rendering || !isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        startRequested = false;
+        if (!passive && !createStrategy()) {
+            // 페이지 플립을 사용할 수 없으면 기존 Swing/AWT repaint 경로로 대체
+            System.err.println("BufferStrategy 생성 실패, 수동 렌더링으로 대체합니다.");
+            passive = true;
+            setIgnoreRepaint(false);
+        }
+        if (passive) {
+            repaint();
+            return;
+        }
+
+        rendering = true;
+        framesRendered = 0;
+        droppedFrames = 0;
+        renderThread = new Thread(this::renderLoop, "render-thread");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    @Override
+    public synchronized void stopRendering() {
+        startRequested = false;
+        rendering = false;
+        if (renderThread != null) {
+            renderThread.interrupt();
+            renderThread = null;
+        }
+    }
+
+    public boolean isPassive() {
+        return passive;
+    }
+
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    @Override
+    public String getFrameStatsText() {
+        if (passive) {
+            return "렌더링: 수동 렌더링으로 대체됨";
+        }
+        long frames = framesRendered;
+        long dropped = droppedFrames;
+        return String.format("렌더링: 프레임 %d, 마감 놓침 %d (%.1f%%)",
+                frames, dropped, (frames + dropped == 0) ? 0.0 : dropped * 100.0 / (frames + dropped));
+    }
+
+    // 수동 렌더링으로 대체된 경우에만 사용되는 그리기 경로
+    @Override
+    public void paint(Graphics g) {
+        if (passive) {
+            long sequence = renderFrame((Graphics2D) g);
+            controller.framePresented(sequence);
+        }
+    }
+
+    // Canvas 기본 update는 배경을 지운 뒤 paint를 호출하여 깜빡임이 생기므로 바로 paint 호출
+    @Override
+    public void update(Graphics g) {
+        paint(g);
+    }
+
+    private boolean createStrategy() {
+        if (GraphicsEnvironment.isHeadless() || !isDisplayable()) {
+            return false;
+        }
+        try {
+            createBufferStrategy(BUFFER_COUNT);
+            return getBufferStrategy() != null;
+        } catch (Exception e) {
+            System.err.println(e.getMessage());
+            return false;
+        }
+    }
+
+    // 렌더링 스레드의 메인 루프. 주사율 간격의 마감 시간에 맞춰 한 프레임씩 그림
+    private void renderLoop() {
+        long frameNanos = 1_000_000_000L / getRefreshRate();
+        long deadline = System.nanoTime() + frameNanos;
+
+        while (rendering) {
+            showFrame();
+            framesRendered++;
+
+            long now = System.nanoTime();
+            if (now > deadline) {
+                // 마감 시간을 놓친 만큼 프레임 누락으로 기록하고 다음 마감 시간을 다시 맞춤
+                long missed = (now - deadline) / frameNanos + 1;
+                droppedFrames += missed;
+                deadline += missed * frameNanos;
+            }
+            // 다음 마감 시간까지 대기
+            long remaining;
+            while (rendering && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+            deadline += frameNanos;
+        }
+    }
+
+    // BufferStrategy의 백 버퍼에 그린 뒤 화면에 표시. 버퍼 내용이 유실되면 다시 그림
+    private void showFrame() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            return;
+        }
+        try {
+            long sequence;
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        sequence = renderFrame(g2d);
+                    } finally {
+                        g2d.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync(); // 일부 플랫폼(Linux)에서 화면 표시가 지연되지 않도록 동기화
+            controller.framePresented(sequence); // 이 스냅샷이 반영된 프레임이 화면에 표시됨
+        } catch (IllegalStateException e) {
+            // 캔버스가 화면에서 제거되는 중이면 이번 프레임은 건너뜀
+        }
+    }
+
+    // 현재 크기에 맞춰 배치를 갱신하고 한 프레임을 그림. 그린 스냅샷의 게시 순번 반환
+    private long renderFrame(Graphics2D g2d) {
+        if (renderer.resize(getWidth(), getHeight())) {
+            // 크기가 바뀐 경우에만 충돌 계산용 행성 중심값과 반경을 컨트롤러에 전달
+            controller.setOrbitCenter(renderer.getCenterX(), renderer.getCenterY());
+            controller.setPlayerCollisionRadius(renderer.getPlayerRadius());
+        }
+        WorldSnapshot world = controller.acquireSnapshot(); // 게임 루프가 마지막으로 게시한 월드 상태 (락 없음)
+        double alpha = controller.getInterpolationAlpha(); // 틱 사이 보간 비율
+        renderer.render(g2d, getGraphicsConfiguration(), world, alpha, paused);
+        if (controller.isLatencyOverlayVisible()) {
+            renderer.renderOverlay(g2d, controller.getLatencyReportLines()); // 입력 지연 시간 요약 표시
+        }
+        return world.getSequence();
+    }
+
+    @Override
+    public int getRefreshRate() {
+        return GroundRenderer.getRefreshRate(getGraphicsConfiguration());
+    }
+}
@@ -9,18 +9,26 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JTextArea;
 import javax.swing.JScrollPane;
+import javax.swing.JFileChooser;
+import javax.swing.SwingWorker;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.io.File;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 // 단어 추가 화면(패널) 클래스
 // 사용자가 새로운 단어를 입력하여 게임 데이터에 추가할 수 있으며, 현재 등록된 단어 목록도 함께 보여줌
 // 메인 메뉴에서 호출될 때 전체 화면으로 나타남
 public class EditPanel extends JPanel {
 
+    private static final int MAX_LISTED_WORDS = 2000; // 목록에 표시할 최대 단어 수
+
     private final GameController controller;        // 게임 로직을 처리하는 컨트롤러
     private final JTextField wordField = new JTextField(12); // 새 단어를 입력받는 텍스트 필드
     private final JButton addButton = new JButton("단어 추가"); // 단어 추가 버튼
+    private final JButton removeButton = new JButton("단어 삭제"); // 단어 삭제 버튼
+    private final JButton importButton = new JButton("파일에서 가져오기"); // 단어 파일 가져오기 버튼
     private final JTextArea wordListArea = new JTextArea(); // 등록된 단어 목록을 표시하는 텍스트 영역
 
     public EditPanel(GameController controller) {
@@ -34,11 +42,13 @@ public class EditPanel extends JPanel {
         
         JLabel newWordLabel = new JLabel("새 단어: ");
         newWordLabel.setForeground(Color.WHITE); // 라벨 텍스트 색상 검정
-        newWordLabel.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 14f).deriveFont(Font.PLAIN));
+        newWordLabel.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 14f, Font.PLAIN));
         
         topPanel.add(newWordLabel); // 라벨 추가
         topPanel.add(wordField);    // 입력 필드 추가
         topPanel.add(addButton);    // 추가 버튼 추가
+        topPanel.add(removeButton); // 삭제 버튼 추가
+        topPanel.add(importButton); // 가져오기 버튼 추가
         
         add(topPanel, BorderLayout.NORTH); // 상단에 입력 폼 패널 배치
 
@@ -59,29 +69,95 @@ public class EditPanel extends JPanel {
         addButton.addActionListener(e -> {
             String text = wordField.getText();
             if (text != null && !text.trim().isEmpty()) { // 입력이 유효한 경우
-                controller.addWordFromUser(text); // 컨트롤러를 통해 단어 추가
+                boolean added = controller.addWordFromUser(text); // 컨트롤러를 통해 단어 추가
                 wordField.setText(""); // 입력 필드 초기화
                 JOptionPane.showMessageDialog(
                         this,
-                        "단어 '" + text + "'가 추가되었습니다.",
+                        added ? "단어 '" + text + "'가 추가되었습니다." : "단어 '" + text + "'는 이미 있거나 사용할 수 없는 단어입니다.",
                         "Info",
                         JOptionPane.INFORMATION_MESSAGE
                 );
                 refreshWordList(); // 단어 목록 새로고침
             }
         });
+
+        // '단어 삭제' 버튼 액션 리스너: 입력 필드의 단어를 목록에서 삭제
+        removeButton.addActionListener(e -> {
+            String text = wordField.getText();
+            if (text == null || text.trim().isEmpty()) {
+                return;
+            }
+            boolean removed = controller.removeWordFromUser(text);
+            wordField.setText("");
+            JOptionPane.showMessageDialog(
+                    this,
+                    removed ? "단어 '" + text + "'가 삭제되었습니다." : "단어 '" + text + "'는 등록되어 있지 않습니다.",
+                    "Info",
+                    JOptionPane.INFORMATION_MESSAGE
+            );
+            refreshWordList(); // 단어 목록 새로고침
+        });
+
+        // '파일에서 가져오기' 버튼 액션 리스너: 선택한 텍스트 파일(한 줄에 한 단어)의 단어들을 한 번에 추가
+        importButton.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser(new File("."));
+            if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+            importWords(chooser.getSelectedFile());
+        });
+    }
+
+    // 큰 파일도 화면이 멈추지 않도록 작업 스레드에서 가져오고, 끝나면 EDT에서 결과를 표시
+    private void importWords(File file) {
+        importButton.setEnabled(false);
+        long start = System.currentTimeMillis();
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() throws Exception {
+                return controller.importWordsFromFile(file.toPath());
+            }
+
+            @Override
+            protected void done() {
+                importButton.setEnabled(true);
+                try {
+                    int added = get();
+                    JOptionPane.showMessageDialog(
+                            EditPanel.this,
+                            "단어 " + added + "개를 가져왔습니다. (" + (System.currentTimeMillis() - start) + "ms)",
+                            "Info",
+                            JOptionPane.INFORMATION_MESSAGE
+                    );
+                    refreshWordList(); // 단어 목록 새로고침
+                } catch (InterruptedException | ExecutionException ex) {
+                    Throwable cause = (ex.getCause() != null) ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(
+                            EditPanel.this,
+                            "단어 파일을 가져오지 못했습니다: " + cause.getMessage(),
+                            "오류",
+                            JOptionPane.ERROR_MESSAGE
+                    );
+                }
+            }
+        }.execute();
     }
 
     // 단어 목록을 컨트롤러에서 가져와 JTextArea에 표시
+    // 단어가 아주 많으면 텍스트 영역이 느려지므로 앞의 MAX_LISTED_WORDS개만 표시
     private void refreshWordList() {
         List<String> words = controller.getAllWords(); // 모든 단어 목록 가져오기
         StringBuilder sb = new StringBuilder();
-        sb.append("=== 현재 등록된 단어 목록 ===\n\n");
+        sb.append("=== 현재 등록된 단어 목록 (").append(words.size()).append("개) ===\n\n");
         if (words.isEmpty()) {
             sb.append("등록된 단어가 없습니다.");
         } else {
-            for (String word : words) {
-                sb.append("- ").append(word).append("\n"); // 각 단어를 포맷하여 추가
+            int listed = Math.min(words.size(), MAX_LISTED_WORDS);
+            for (int i = 0; i < listed; i++) {
+                sb.append("- ").append(words.get(i)).append("\n"); // 각 단어를 포맷하여 추가
+            }
+            if (listed < words.size()) {
+                sb.append("... 외 ").append(words.size() - listed).append("개");
             }
         }
         wordListArea.setText(sb.toString()); // JTextArea에 텍스트 설정
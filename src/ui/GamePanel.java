@@ -6,22 +6,32 @@ import javax.swing.*;
 import java.awt.*;
 
 // 게임 플레이 화면 전체를 감싸는 패널
-// 상단의 게임 영역(GroundPanel)과 하단의 입력 영역(InputPanel)을 포함
+// 상단의 게임 영역(GroundPanel 또는 ActiveGroundCanvas)과 하단의 입력 영역(InputPanel)을 포함
 public class GamePanel extends JPanel {
-    private final GroundPanel groundPanel;
+    // -Dmeteor.activeRendering=true 로 실행하면 BufferStrategy 기반 능동 렌더링 사용
+    private static final boolean ACTIVE_RENDERING = Boolean.getBoolean("meteor.activeRendering");
+
+    private final GameView gameView;
     private final InputPanel inputPanel;
 
     public GamePanel(GameController controller) {
         setLayout(new BorderLayout());
 
-        groundPanel = new GroundPanel(controller);
+        if (ACTIVE_RENDERING && !GraphicsEnvironment.isHeadless()) {
+            ActiveGroundCanvas canvas = new ActiveGroundCanvas(controller);
+            gameView = canvas;
+            add(canvas, BorderLayout.CENTER);
+        } else {
+            GroundPanel groundPanel = new GroundPanel(controller);
+            gameView = groundPanel;
+            add(groundPanel, BorderLayout.CENTER);
+        }
         inputPanel = new InputPanel(controller);
 
-        add(groundPanel, BorderLayout.CENTER);
         add(inputPanel, BorderLayout.SOUTH);
     }
 
-    public GroundPanel getGroundPanel() {
-        return groundPanel;
+    public GameView getGameView() {
+        return gameView;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package ui;
+
+// 게임 화면을 그리는 뷰의 공통 인터페이스
+// Swing의 repaint에 맡기는 수동 렌더링(GroundPanel)과, 전용 스레드가 직접 그리는 능동 렌더링(ActiveGroundCanvas)을
+// GameController가 같은 방식으로 다룰 수 있게 함
+public interface GameView {
+    // 게임 루프가 상태를 갱신한 뒤 새 프레임을 요청. 어느 스레드에서 호출해도 안전해야 함
+    void requestFrame();
+
+    // 화면 주사율 (게임 루프가 프레임을 요청하는 간격을 정하는 데 사용)
+    int getRefreshRate();
+
+    // 일시정지 표시 여부 설정 (EDT에서 호출)
+    void setPaused(boolean paused);
+
+    // 게임 시작/종료 시 호출. 능동 렌더링 뷰는 이때 렌더링 스레드를 시작/종료함
+    void startRendering();
+
+    void stopRendering();
+
+    // 프레임 통계 요약 (지연 시간 요약과 기록 파일에 표시). 따로 세지 않는 뷰는 null
+    default String getFrameStatsText() {
+        return null;
+    }
+}
@@ -1,121 +1,82 @@
 package ui;
 
 import controller.GameController;
-import data.Word;
-import util.ImageLoader;
+import controller.WorldSnapshot;
 
 import javax.swing.JPanel;
 import java.awt.*;
-import java.util.List;
-import java.awt.image.BufferedImage;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 
 // 실제 게임이 진행되는 그래픽 영역 패널
 // 배경, 플레이어(행성), 떨어지는 단어(별똥별) 등을 그림
-public class GroundPanel extends JPanel {
+// 게임 루프가 요청할 때마다 Swing repaint로 그리는 수동 렌더링 방식 (기본값)
+public class GroundPanel extends JPanel implements GameView {
 
     private final GameController controller;
-    private final BufferedImage backgroundImage; // 게임 배경 이미지
-    private final BufferedImage playerImage;     // 플레이어(행성) 이미지
-    private final BufferedImage starImage;       // 떨어지는 단어(별똥별) 이미지
-    
+    private final GroundRenderer renderer = new GroundRenderer(); // 실제 그리기를 담당하는 렌더러
+
     private boolean isPaused = false; // 일시정지 상태
 
     public GroundPanel(GameController controller) {
         this.controller = controller;
-        // 이미지 리소스 로드
-        this.backgroundImage = ImageLoader.getImage("background_game.jpg");
-        this.playerImage = ImageLoader.getImage("planet.png");
-        this.starImage = ImageLoader.getImage("star.png");
-        
         setBackground(Color.BLACK); // 배경색 기본 설정
+
+        // 크기가 바뀔 때만 플레이어 크기와 궤도 중심을 다시 계산 (매 프레임 계산하지 않음)
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                updateLayout();
+            }
+        });
+    }
+
+    // 패널 크기에 맞춰 렌더러의 배치를 갱신하고, 충돌 계산을 위해 컨트롤러에 행성의 중심값과 반경을 전달
+    // 이 정보는 GameController에서 단어와의 충돌 여부를 판단하는 데 사용
+    private void updateLayout() {
+        if (renderer.resize(getWidth(), getHeight())) {
+            controller.setOrbitCenter(renderer.getCenterX(), renderer.getCenterY());
+            controller.setPlayerCollisionRadius(renderer.getPlayerRadius());
+        }
     }
 
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g); // 컴포넌트의 기본 그리기 기능을 호출하여 배경을 지움
-
-        // Graphics 객체를 Graphics2D로 캐스팅하여 고급 2D 그래픽 기능을 사용
+        // 렌더러가 배경 레이어로 패널 전체를 덮으므로 super.paintComponent로 배경을 따로 지우지 않음
+        updateLayout(); // 리사이즈 이벤트보다 그리기가 먼저 오는 경우 대비 (크기가 같으면 아무것도 하지 않음)
+        WorldSnapshot world = controller.acquireSnapshot(); // 게임 루프가 마지막으로 게시한 월드 상태 (락 없음)
+        double alpha = controller.getInterpolationAlpha(); // 틱 사이 보간 비율
         Graphics2D g2d = (Graphics2D) g;
-        // 텍스트 렌더링 품질 향상 (안티앨리어싱 적용)
-        g2d.setRenderingHint(
-                RenderingHints.KEY_TEXT_ANTIALIASING,
-                RenderingHints.VALUE_TEXT_ANTIALIAS_ON
-        );
-
-        int width = getWidth();  // 패널의 현재 너비
-        int height = getHeight(); // 패널의 현재 높이
-
-        // 배경 그리기: 배경 이미지가 있으면 이미지를 있고, 없으면 검정색으로 채움
-        if (backgroundImage != null) {
-            g2d.drawImage(backgroundImage, 0, 0, width, height, this);
-        } else {
-            g2d.setColor(Color.BLACK);
-            g2d.fillRect(0, 0, width, height);
-        }
-
-        // 플레이어(행성) 그리기 (화면 중앙에 배치)
-        int playerRadius = (int)(Math.min(width, height) * 0.12); // 화면 크기에 비례하여 플레이어 크기 결정
-        int centerX = width / 2;  // 중앙 X 좌표
-        int centerY = height / 2; // 중앙 Y 좌표
-        int playerSize = playerRadius * 2; // 플레이어 이미지의 지름
-
-        if (playerImage != null) {
-            // 이미지의 중심이 centerX, centerY에 오도록 위치 조정하여 그림
-            g2d.drawImage(playerImage, centerX - playerRadius, centerY - playerRadius, playerSize, playerSize, this);
-        } else {
-            g2d.setColor(Color.GREEN);
-            g2d.fillOval(centerX - playerRadius, centerY - playerRadius, playerSize, playerSize);
+        renderer.render(g2d, getGraphicsConfiguration(), world, alpha, isPaused);
+        if (controller.isLatencyOverlayVisible()) {
+            renderer.renderOverlay(g2d, controller.getLatencyReportLines()); // 입력 지연 시간 요약 표시
         }
+        // 이 스냅샷이 반영된 프레임을 다 그렸음을 알림 (화면 복사는 이후 RepaintManager가 바로 수행)
+        controller.framePresented(world.getSequence());
+    }
 
-        // 별똥별(단어) 그리기
-        List<Word> words = controller.getActiveWordsSnapshot(); // 컨트롤러로부터 현재 활성화된 단어 목록을 가져옴
-        
-        for (Word word : words) {
-            int x = word.getX(); // 단어의 현재 X 좌표
-            int y = word.getY(); // 단어의 현재 Y 좌표
-            
-            // 별똥별 이미지 그리기
-            if (starImage != null) {
-                 g2d.drawImage(starImage, x - 20, y - 20, 40, 40, this); // 이미지 중심이 x,y에 오도록 위치 조정
-            } else {
-                g2d.setColor(Color.YELLOW);
-                g2d.fillOval(x - 12, y - 12, 24, 24); // 이미지가 없을 경우 노란색 원으로 대체
-            }
-
-            // 단어 텍스트 그리기
-            g2d.setColor(Color.WHITE); // 텍스트 색상
-            // 폰트 적용 (Bold 스타일, 14f 크기)
-            g2d.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 14f).deriveFont(Font.BOLD));
-            
-            // FontMetrics를 사용하여 텍스트의 실제 크기를 측정하고, 중앙에 배치
-            FontMetrics fm = g2d.getFontMetrics();
-            int textWidth = fm.stringWidth(word.getText()); // 텍스트의 픽셀 너비
-            // x 좌표에서 텍스트 너비의 절반만큼 왼쪽으로 이동하여 중앙 정렬. y + 30은 이미지 아래에 텍스트를 배치하기 위함
-            g2d.drawString(word.getText(), x - (textWidth / 2), y + 30);
-        }
-
-        // 충돌 계산을 위해 컨트롤러에 현재 플레이어(행성)의 중심값과 반경을 전달
-        // 이 정보는 GameController에서 단어와의 충돌 여부를 판단하는 데 사용
-        controller.setOrbitCenter(centerX, centerY);
-        controller.setPlayerCollisionRadius(playerRadius);
-
-        // 5. 일시정지 오버레이
-        if (isPaused) {
-            g2d.setColor(new Color(0, 0, 0, 150)); // 반투명 검정 배경
-            g2d.fillRect(0, 0, width, height);
+    @Override
+    public void requestFrame() {
+        repaint(); // repaint는 스레드 안전하며, 실제 그리기는 EDT에서 이루어짐
+    }
 
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 40f).deriveFont(Font.BOLD));
-            String pauseText = "PAUSED";
-            FontMetrics fm = g2d.getFontMetrics();
-            int textW = fm.stringWidth(pauseText);
-            int textH = fm.getAscent();
-            g2d.drawString(pauseText, (width - textW) / 2, (height + textH) / 2);
-        }
+    @Override
+    public int getRefreshRate() {
+        return GroundRenderer.getRefreshRate(getGraphicsConfiguration());
     }
 
+    @Override
     public void setPaused(boolean paused) {
         this.isPaused = paused;
         repaint();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void startRendering() {
+        // 수동 렌더링은 별도의 렌더링 스레드가 없음
+    }
+
+    @Override
+    public void stopRendering() {
+    }
+}
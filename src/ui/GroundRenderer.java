@@ -0,0 +1,191 @@
+package ui;
+
+import controller.WorldSnapshot;
+import util.FontLoader;
+import util.ImageLoader;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+// 게임 화면(배경, 플레이어, 별똥별, 일시정지 문구)을 그리는 렌더러
+// 배경과 플레이어는 크기가 바뀔 때만 ImageLoader에서 화면 크기에 맞춘 이미지를 받아 두고(정적 레이어),
+// 나머지 프레임에서는 스케일링 없이 그대로 복사만 함
+public class GroundRenderer {
+
+    private static final int DEFAULT_REFRESH_RATE = 60; // 주사율을 알 수 없을 때 사용할 기본값
+    private static final Color PAUSE_OVERLAY = new Color(0, 0, 0, 150); // 일시정지 시 반투명 검정 배경
+    private static final Color LOCK_ON_COLOR = new Color(80, 220, 255); // 조준 중인 별똥별 표시 색상
+    private static final BasicStroke LOCK_ON_STROKE = new BasicStroke(2f);
+    private static final int LOCK_ON_RADIUS = 24; // 조준 표시 원의 반지름 (별 이미지보다 약간 크게)
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 180); // 지연 시간 요약 배경
+    private static final Font OVERLAY_FONT = new Font("Monospaced", Font.PLAIN, 12); // 고정폭 폰트 (정렬에 유리)
+    private static final String BACKGROUND_IMAGE = "background_game.jpg";
+    private static final String PLAYER_IMAGE = "planet.png";
+    private static final String STAR_IMAGE = "star.png";
+
+    // 리소스는 처음 그릴 때 가져옴 (시작 시 AssetPreloader가 미리 읽어 두므로 보통 바로 반환됨)
+    private MeteorSpriteCache spriteCache; // 별똥별(별 이미지 + 단어) 스프라이트 캐시
+    private Font pauseFont;                // 일시정지 문구 폰트
+
+    // 화면 크기에 따라 결정되는 배치 정보 (resize 시에만 계산)
+    private int width = 0;
+    private int height = 0;
+    private int centerX = 0;      // 플레이어(행성)의 중심 X 좌표
+    private int centerY = 0;      // 플레이어(행성)의 중심 Y 좌표
+    private int playerRadius = 0; // 플레이어의 반지름 (충돌 반경)
+
+    // 화면 크기에 맞춘 정적 레이어. 크기가 바뀌면 ImageLoader에서 다시 받음
+    // (같은 크기로 돌아오면 ImageLoader 캐시에서 바로 반환되므로 다시 스케일링하지 않음)
+    private BufferedImage backgroundLayer;
+    private BufferedImage playerLayer;
+
+    // 스프라이트 캐시와 폰트를 준비함. 게임 화면을 처음 그릴 때 한 번만 호출
+    private void loadAssets() {
+        // 폰트는 매 프레임 조회하지 않도록 미리 가져옴
+        this.spriteCache = new MeteorSpriteCache(
+                STAR_IMAGE,
+                FontLoader.getFont("Pretendard-Regular.ttf", 14f, Font.BOLD)
+        );
+        this.pauseFont = FontLoader.getFont("Pretendard-Regular.ttf", 40f, Font.BOLD);
+    }
+
+    // 화면 크기가 바뀌었을 때 호출. 플레이어 크기와 궤도 중심을 다시 계산하고 정적 레이어를 무효화
+    // 크기가 실제로 바뀐 경우 true 반환
+    public boolean resize(int width, int height) {
+        if (width == this.width && height == this.height) {
+            return false;
+        }
+        this.width = width;
+        this.height = height;
+        this.playerRadius = (int) (Math.min(width, height) * 0.12); // 화면 크기에 비례하여 플레이어 크기 결정
+        this.centerX = width / 2;  // 중앙 X 좌표
+        this.centerY = height / 2; // 중앙 Y 좌표
+
+        backgroundLayer = null;
+        playerLayer = null;
+        return true;
+    }
+
+    public int getCenterX() {
+        return centerX;
+    }
+
+    public int getCenterY() {
+        return centerY;
+    }
+
+    public int getPlayerRadius() {
+        return playerRadius;
+    }
+
+    // 화면 장치의 주사율 반환. 알 수 없으면 기본값(60Hz)
+    public static int getRefreshRate(GraphicsConfiguration gc) {
+        if (gc != null) {
+            int rate = gc.getDevice().getDisplayMode().getRefreshRate();
+            if (rate != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return rate;
+            }
+        }
+        return DEFAULT_REFRESH_RATE;
+    }
+
+    // 한 프레임 전체를 그림. gc는 스프라이트를 만들 화면 장치 설정 (없으면 null)
+    // alpha는 직전 틱과 현재 틱 사이의 보간 비율 (0~1)
+    public void render(Graphics2D g2d, GraphicsConfiguration gc, WorldSnapshot world, double alpha, boolean paused) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (spriteCache == null) {
+            loadAssets();
+        }
+
+        // 텍스트 렌더링 품질 향상 (안티앨리어싱 적용)
+        g2d.setRenderingHint(
+                RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON
+        );
+
+        // 배경 그리기: 화면 크기에 맞춘 배경 레이어를, 없으면 검정색으로 채움
+        if (backgroundLayer == null) {
+            backgroundLayer = ImageLoader.getScaledImage(BACKGROUND_IMAGE, width, height);
+        }
+        if (backgroundLayer != null) {
+            g2d.drawImage(backgroundLayer, 0, 0, null);
+        } else {
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, width, height);
+        }
+
+        // 플레이어(행성) 그리기 (화면 중앙에 배치)
+        int playerSize = playerRadius * 2; // 플레이어 이미지의 지름
+        if (playerLayer == null && playerSize > 0) {
+            playerLayer = ImageLoader.getScaledImage(PLAYER_IMAGE, playerSize, playerSize);
+        }
+        if (playerLayer != null) {
+            // 이미지의 중심이 centerX, centerY에 오도록 위치 조정하여 그림
+            g2d.drawImage(playerLayer, centerX - playerRadius, centerY - playerRadius, null);
+        } else {
+            g2d.setColor(Color.GREEN);
+            g2d.fillOval(centerX - playerRadius, centerY - playerRadius, playerSize, playerSize);
+        }
+
+        // 별똥별(단어) 그리기
+        // 별 이미지와 라벨은 단어별 스프라이트로 캐싱되어 있으므로 별똥별 하나당 이미지 한 번만 그림
+        spriteCache.beginFrame(gc);
+        for (int i = 0, n = world.size(); i < n; i++) {
+            // 스프라이트의 별 중심이 단어의 보간된 좌표(x, y)에 오도록 그림
+            spriteCache.draw(g2d, world.getText(i), world.getRenderX(i, alpha), world.getRenderY(i, alpha));
+        }
+        spriteCache.endFrame(); // 화면에서 사라진 단어의 스프라이트 제거
+
+        // 입력 중인 접두사로 조준(lock-on)한 별똥별 주위에 원을 그려 강조
+        int lockOn = world.getLockOnIndex();
+        if (lockOn >= 0) {
+            int lx = world.getRenderX(lockOn, alpha);
+            int ly = world.getRenderY(lockOn, alpha);
+            Stroke oldStroke = g2d.getStroke();
+            g2d.setColor(LOCK_ON_COLOR);
+            g2d.setStroke(LOCK_ON_STROKE);
+            g2d.drawOval(lx - LOCK_ON_RADIUS, ly - LOCK_ON_RADIUS, LOCK_ON_RADIUS * 2, LOCK_ON_RADIUS * 2);
+            g2d.setStroke(oldStroke);
+        }
+
+        // 일시정지 오버레이
+        if (paused) {
+            g2d.setColor(PAUSE_OVERLAY);
+            g2d.fillRect(0, 0, width, height);
+
+            g2d.setColor(Color.WHITE);
+            g2d.setFont(pauseFont);
+            String pauseText = "PAUSED";
+            FontMetrics fm = g2d.getFontMetrics();
+            int textW = FontLoader.stringWidth(fm, pauseText);
+            int textH = fm.getAscent();
+            g2d.drawString(pauseText, (width - textW) / 2, (height + textH) / 2);
+        }
+    }
+
+    // 화면 좌측 상단에 지연 시간 요약 등 진단 정보를 한 줄씩 그림
+    public void renderOverlay(Graphics2D g2d, List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        g2d.setFont(OVERLAY_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+        int lineHeight = fm.getHeight();
+        int boxWidth = 0;
+        for (String line : lines) {
+            boxWidth = Math.max(boxWidth, FontLoader.stringWidth(fm, line));
+        }
+        g2d.setColor(OVERLAY_BACKGROUND);
+        g2d.fillRect(5, 5, boxWidth + 10, lineHeight * lines.size() + 10);
+
+        g2d.setColor(Color.WHITE);
+        int y = 10 + fm.getAscent();
+        for (String line : lines) {
+            g2d.drawString(line, 10, y);
+            y += lineHeight;
+        }
+    }
+}
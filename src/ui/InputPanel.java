@@ -5,12 +5,19 @@ import controller.GameController;
 import javax.swing.JPanel;
 import javax.swing.JLabel;
 import javax.swing.JTextField;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.Color;
 import java.awt.FlowLayout;
 
 // 사용자 입력을 받는 하단 패널
 public class InputPanel extends JPanel {
 
+    // 증분 매칭 모드. 켜져 있으면 글자를 입력할 때마다 컨트롤러에 전달하여 조준 대상을 갱신
+    // -Dmeteor.incrementalMatch=false 로 끌 수 있음
+    private static final boolean INCREMENTAL_MATCH =
+            Boolean.parseBoolean(System.getProperty("meteor.incrementalMatch", "true"));
+
     private final JTextField inputField = new JTextField(20);
 
     public InputPanel(GameController controller) {
@@ -28,8 +35,31 @@ public class InputPanel extends JPanel {
         // 엔터 키 입력 시 단어 확인
         inputField.addActionListener(e -> {
             String text = inputField.getText();
-            controller.checkInput(text);
+            // 이벤트 발생 시각(밀리초)을 nanoTime 기준으로 환산하여, 이벤트 큐에서 기다린 시간까지 지연 시간에 포함
+            long queuedMillis = Math.max(0, System.currentTimeMillis() - e.getWhen());
+            long keyNanos = System.nanoTime() - queuedMillis * 1_000_000L;
+            controller.checkInput(text, keyNanos);
             inputField.setText("");
         });
+
+        // 입력 내용이 바뀔 때마다 컨트롤러에 전달 (입력 필드를 비울 때도 호출되어 조준이 해제됨)
+        if (INCREMENTAL_MATCH) {
+            inputField.getDocument().addDocumentListener(new DocumentListener() {
+                @Override
+                public void insertUpdate(DocumentEvent e) {
+                    controller.updateTypedText(inputField.getText());
+                }
+
+                @Override
+                public void removeUpdate(DocumentEvent e) {
+                    controller.updateTypedText(inputField.getText());
+                }
+
+                @Override
+                public void changedUpdate(DocumentEvent e) {
+                    // 스타일 변경은 입력 내용과 무관
+                }
+            });
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package ui;
+
+import util.FontLoader;
+import util.ImageLoader;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// 별똥별(별 이미지 + 단어 라벨)을 단어별로 한 번만 그려두고 재사용하는 스프라이트 캐시
+// 화면 장치와 호환되는 이미지로 만들어 두므로 매 프레임 별똥별 하나당 drawImage 한 번으로 그릴 수 있음
+// 렌더링 스레드 하나에서만 사용한다고 가정하므로 동기화하지 않음
+public class MeteorSpriteCache {
+
+    private static final int STAR_SIZE = 40;      // 별 이미지의 가로/세로 크기
+    private static final int FALLBACK_SIZE = 24;  // 별 이미지가 없을 때 그리는 원의 지름
+    private static final int LABEL_OFFSET_Y = 30; // 별 중심에서 라벨 기준선까지의 거리
+
+    private final BufferedImage starImage; // STAR_SIZE 크기로 미리 맞춘 별 이미지 (ImageLoader가 캐싱)
+    private final Font labelFont;
+    private final Map<String, Sprite> sprites = new HashMap<>();
+    private GraphicsConfiguration gc;   // 스프라이트를 만든 화면 장치 설정
+    private long frame = 0; // 현재 프레임 번호. 이번 프레임에 쓰이지 않은 스프라이트를 골라내는 데 사용
+    private Graphics2D measureGraphics; // 라벨 너비 측정용 Graphics (처음 필요할 때 생성)
+
+    // 미리 그려둔 이미지와, 이미지 안에서 별 중심의 위치
+    private static final class Sprite {
+        final BufferedImage image;
+        final int anchorX;
+        final int anchorY;
+        long lastUsedFrame;
+
+        Sprite(BufferedImage image, int anchorX, int anchorY) {
+            this.image = image;
+            this.anchorX = anchorX;
+            this.anchorY = anchorY;
+        }
+    }
+
+    // starImagePath는 ImageLoader 기준 별 이미지 경로
+    public MeteorSpriteCache(String starImagePath, Font labelFont) {
+        this.starImage = ImageLoader.getScaledImage(starImagePath, STAR_SIZE, STAR_SIZE);
+        this.labelFont = labelFont;
+    }
+
+    // 새 프레임 시작. 창이 다른 모니터로 옮겨져 화면 장치가 바뀌면 기존 스프라이트를 버림
+    public void beginFrame(GraphicsConfiguration gc) {
+        if (gc != this.gc) {
+            sprites.clear();
+            this.gc = gc;
+        }
+        frame++;
+    }
+
+    // 별 중심이 (x, y)에 오도록 단어 스프라이트를 그림. 캐시에 없으면 이때 한 번만 만듦
+    public void draw(Graphics2D g2d, String text, int x, int y) {
+        Sprite sprite = sprites.get(text);
+        if (sprite == null) {
+            sprite = render(text);
+            sprites.put(text, sprite);
+        }
+        sprite.lastUsedFrame = frame;
+        g2d.drawImage(sprite.image, x - sprite.anchorX, y - sprite.anchorY, null);
+    }
+
+    // 프레임 종료. 이번 프레임에 그려지지 않은(화면에서 사라진) 단어의 스프라이트를 제거
+    public void endFrame() {
+        Iterator<Sprite> it = sprites.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().lastUsedFrame != frame) {
+                it.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return sprites.size();
+    }
+
+    // 별 이미지와 라벨을 하나의 반투명 이미지에 그림
+    private Sprite render(String text) {
+        FontMetrics fm = measureGraphics().getFontMetrics(labelFont);
+        int textWidth = FontLoader.stringWidth(fm, text);
+
+        int halfWidth = Math.max(STAR_SIZE / 2, (textWidth + 1) / 2 + 1);
+        int width = halfWidth * 2;
+        int top = STAR_SIZE / 2;
+        int height = top + LABEL_OFFSET_Y + fm.getDescent() + 1;
+
+        BufferedImage image = (gc != null)
+                ? gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+            if (starImage != null) {
+                g2d.drawImage(starImage, halfWidth - STAR_SIZE / 2, top - STAR_SIZE / 2, null); // 이미 크기가 맞으므로 복사만 함
+            } else {
+                g2d.setColor(Color.YELLOW);
+                g2d.fillOval(halfWidth - FALLBACK_SIZE / 2, top - FALLBACK_SIZE / 2, FALLBACK_SIZE, FALLBACK_SIZE);
+            }
+
+            g2d.setColor(Color.WHITE);
+            g2d.setFont(labelFont);
+            g2d.drawString(text, halfWidth - (textWidth / 2), top + LABEL_OFFSET_Y);
+        } finally {
+            g2d.dispose();
+        }
+        return new Sprite(image, halfWidth, top);
+    }
+
+    // 라벨 너비 측정용 Graphics. 실제 스프라이트와 같은 안티앨리어싱 설정을 사용
+    private Graphics2D measureGraphics() {
+        if (measureGraphics == null) {
+            measureGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+            measureGraphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        }
+        return measureGraphics;
+    }
+}
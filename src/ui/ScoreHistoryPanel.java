@@ -23,7 +23,7 @@ public class ScoreHistoryPanel extends JPanel {
 
         // 제목 라벨 설정
         JLabel titleLabel = new JLabel("기록 (Top 10)");
-        titleLabel.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 14f).deriveFont(Font.BOLD)); // 폰트 적용
+        titleLabel.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 14f, Font.BOLD)); // 폰트 적용
         titleLabel.setHorizontalAlignment(SwingConstants.CENTER); // 중앙 정렬
         add(titleLabel, BorderLayout.NORTH); // 상단에 제목 추가
 
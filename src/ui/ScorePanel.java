@@ -1,12 +1,17 @@
 package ui;
 
+import util.FontLoader;
+
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 
 // 현재 점수를 표시하는 패널
+// 폰트는 리소스 미리 읽기가 끝나기 전에는 기본 폰트를 쓰고, 끝나면 applyFonts로 Pretendard로 바꿈
 public class ScorePanel extends JPanel {
 
+    private static final String FONT_FILE = "Pretendard-Regular.ttf";
+
     private int score = 0; // 현재 점수
     private final JLabel titleLabel = new JLabel("점수"); // "점수" 텍스트 라벨
     private final JLabel scoreLabel = new JLabel("0"); // 점수를 표시할 라벨
@@ -24,12 +29,11 @@ public class ScorePanel extends JPanel {
         centerPanel.setBackground(Color.YELLOW);
 
         // "점수" 제목 라벨 설정
-        titleLabel.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 16f).deriveFont(Font.PLAIN));
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // 실제 점수 라벨 설정
-        scoreLabel.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 32f).deriveFont(Font.BOLD));
         scoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        applyFonts();
 
         centerPanel.add(titleLabel);
         centerPanel.add(Box.createVerticalStrut(10)); // 제목과 점수 사이 간격
@@ -38,6 +42,12 @@ public class ScorePanel extends JPanel {
         add(centerPanel, BorderLayout.CENTER); // 라벨을 패널 중앙에 추가
     }
 
+    // 라벨에 Pretendard 적용. 아직 읽는 중이면 기본 폰트를 같은 크기로 씀. EDT에서 호출
+    public void applyFonts() {
+        titleLabel.setFont(FontLoader.getFontIfLoaded(FONT_FILE, 16f, Font.PLAIN, titleLabel.getFont()));
+        scoreLabel.setFont(FontLoader.getFontIfLoaded(FONT_FILE, 32f, Font.BOLD, scoreLabel.getFont()));
+    }
+
     // 점수를 amount만큼 증가시키고 화면을 업데이트
     public void increase(int amount) {
         score += amount;
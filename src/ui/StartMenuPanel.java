@@ -2,27 +2,36 @@ package ui;
 
 import app.GameFrame;
 
+import util.FontLoader;
 import util.ImageLoader;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.List;
 
 // 게임 시작 메뉴 화면 패널
 // 게임 시작, 난이도 설정, 기록 보기 등의 메뉴 버튼 제공
+// 배경 이미지는 리소스 미리 읽기가 끝나면 그려지고, 그동안 하단에 진행 막대를 보여줌
+// 폰트도 미리 읽기가 끝나기 전에는 기본 폰트로 보여 주고, Pretendard가 준비되면 바꿈 (EDT가 폰트 파싱을 기다리지 않음)
 public class StartMenuPanel extends JPanel {
 
-    private final BufferedImage backgroundImage;
+    private static final String BACKGROUND_IMAGE = "background_menu.jpg";
+    private static final String FONT_FILE = "Pretendard-Regular.ttf";
+
+    private BufferedImage backgroundImage; // 미리 읽기가 끝나기 전에는 null
+    private final JProgressBar loadingBar;
+    private final JLabel title;
+    private final List<AbstractButton> menuButtons;
 
     public StartMenuPanel(GameFrame frame) {
-        backgroundImage = ImageLoader.getImage("background_menu.jpg");
+        setBackground(Color.BLACK); // 배경 이미지가 준비되기 전에 보일 색
 
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
 
         // 제목 레이블 설정
-        JLabel title = new JLabel("별똥별 사냥꾼");
+        title = new JLabel("별똥별 사냥꾼");
         title.setAlignmentX(Component.CENTER_ALIGNMENT);
-        title.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 30f).deriveFont(Font.BOLD));
         title.setForeground(Color.WHITE);
 
         // 메뉴 버튼 생성
@@ -32,13 +41,6 @@ public class StartMenuPanel extends JPanel {
         JButton scoreButton = new JButton("기록 보기");
         JButton exitButton = new JButton("나가기");
 
-        // 버튼 폰트 설정
-        startButton.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 15f));
-        difficultyButton.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 15f));
-        addWordButton.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 15f));
-        scoreButton.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 15f));
-        exitButton.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 15f));
-
 
         // 버튼 정렬 설정
         startButton.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -56,11 +58,14 @@ public class StartMenuPanel extends JPanel {
 
         // 사운드 토글 버튼 생성
         JToggleButton muteButton = new JToggleButton(util.SoundManager.isMuted() ? "Sound: OFF" : "Sound: ON");
-        muteButton.setFont(util.FontLoader.getFont("Pretendard-Regular.ttf", 15f));
         muteButton.setAlignmentX(Component.CENTER_ALIGNMENT);
         muteButton.setMaximumSize(new Dimension(200, 40));
         muteButton.setSelected(util.SoundManager.isMuted()); // 초기 상태 반영
 
+        // 폰트 설정 (Pretendard가 아직 준비되지 않았으면 기본 폰트)
+        menuButtons = List.of(startButton, difficultyButton, addWordButton, scoreButton, exitButton, muteButton);
+        applyFonts();
+
         // 컴포넌트 추가 (여백 포함)
         add(Box.createRigidArea(new Dimension(0, 30)));
         add(title);
@@ -76,6 +81,15 @@ public class StartMenuPanel extends JPanel {
         add(exitButton);
         add(Box.createRigidArea(new Dimension(0, 50)));
         add(muteButton);
+
+        // 리소스 미리 읽기 진행 막대 (다 읽으면 숨김)
+        loadingBar = new JProgressBar();
+        loadingBar.setStringPainted(true);
+        loadingBar.setString("리소스 불러오는 중...");
+        loadingBar.setAlignmentX(Component.CENTER_ALIGNMENT);
+        loadingBar.setMaximumSize(new Dimension(300, 20));
+        add(Box.createRigidArea(new Dimension(0, 20)));
+        add(loadingBar);
         
         // 게임 시작
         startButton.addActionListener(e -> frame.showGameScreen());
@@ -100,12 +114,39 @@ public class StartMenuPanel extends JPanel {
         });
     }
 
+    // 리소스 미리 읽기 진행 상황 반영. EDT에서 호출
+    public void setLoadingProgress(int loaded, int total) {
+        applyFonts(); // 폰트를 다 읽었으면 바꿈
+        loadingBar.setMaximum(total);
+        loadingBar.setValue(loaded);
+        loadingBar.setString("리소스 불러오는 중... " + loaded + " / " + total);
+        if (loaded >= total) {
+            loadingBar.setVisible(false);
+        }
+        if (backgroundImage == null && ImageLoader.getLoadedImage(BACKGROUND_IMAGE) != null) {
+            repaint(); // 배경 이미지가 준비됨
+        }
+    }
+
+    // 제목과 버튼에 Pretendard 적용. 아직 읽는 중이면 지금 폰트를 같은 크기로 씀 (바뀌지 않으면 다시 배치하지 않음)
+    private void applyFonts() {
+        title.setFont(FontLoader.getFontIfLoaded(FONT_FILE, 30f, Font.BOLD, title.getFont()));
+        for (AbstractButton button : menuButtons) {
+            button.setFont(FontLoader.getFontIfLoaded(FONT_FILE, 15f, Font.PLAIN, button.getFont()));
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        // 배경 이미지 그리기
+        // 배경 이미지 그리기. 아직 읽는 중이면 기다리지 않고 배경색만 그림
+        if (backgroundImage == null) {
+            backgroundImage = ImageLoader.getLoadedImage(BACKGROUND_IMAGE);
+        }
         if (backgroundImage != null) {
-            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+            // 패널 크기에 맞춘 이미지는 ImageLoader가 캐싱하므로 크기가 바뀔 때만 스케일링됨
+            BufferedImage scaled = ImageLoader.getScaledImage(BACKGROUND_IMAGE, getWidth(), getHeight());
+            g.drawImage(scaled, 0, 0, this);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package util;
+
+import java.util.List;
+
+// 게임이 쓰는 리소스 목록. AssetPreloader가 시작할 때 이 목록을 모두 미리 읽음
+// 새 이미지/폰트/효과음을 추가하면 여기에도 적어야 첫 사용 시 디코딩 지연이 생기지 않음
+public final class AssetManifest {
+
+    // resources/images 기준 파일명
+    public static final List<String> IMAGES = List.of(
+            "background_menu.jpg",
+            "background_game.jpg",
+            "planet.png",
+            "star.png"
+    );
+
+    // resources/fonts 기준 파일명
+    public static final List<String> FONTS = List.of(
+            "Pretendard-Regular.ttf"
+    );
+
+    // resources/sounds 기준 효과음 파일명 (배경음악은 스트리밍하므로 미리 읽지 않음)
+    public static final List<String> SOUNDS = List.of(
+            "star-typing.wav"
+    );
+
+    private AssetManifest() {
+    }
+
+    public static int size() {
+        return IMAGES.size() + FONTS.size() + SOUNDS.size();
+    }
+}
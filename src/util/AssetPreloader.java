@@ -0,0 +1,66 @@
+package util;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// AssetManifest의 이미지, 폰트, 효과음을 작업 스레드 여러 개에서 동시에 디코딩하여 각 로더의 캐시에 넣어 두는 클래스
+// 화면을 만드는 쪽은 기다리지 않고, 진행 상황은 EDT에서 ProgressListener로 알려 줌
+// 미리 읽기가 끝나기 전에 로더를 호출해도 그 자리에서 읽으므로 결과는 같고, 먼저 읽힌 쪽이 캐시에 남음
+public class AssetPreloader {
+
+    // 진행 상황 알림. EDT에서 호출됨
+    public interface ProgressListener {
+        void progress(int loaded, int total, String asset);
+    }
+
+    // 미리 읽기를 시작하고, 모두 끝나면 완료되는 future 반환
+    public static CompletableFuture<Void> start(ProgressListener listener) {
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String image : AssetManifest.IMAGES) {
+            tasks.add(() -> ImageLoader.getImage(image));
+            names.add(image);
+        }
+        for (String font : AssetManifest.FONTS) {
+            tasks.add(() -> FontLoader.preload(font));
+            names.add(font);
+        }
+        for (String sound : AssetManifest.SOUNDS) {
+            tasks.add(() -> SoundManager.loadEffect(sound));
+            names.add(sound);
+        }
+
+        int total = tasks.size();
+        int threads = Math.max(1, Math.min(total, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[total];
+        for (int i = 0; i < total; i++) {
+            Runnable task = tasks.get(i);
+            String name = names.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("리소스 미리 읽기 실패: " + name + " - " + e.getMessage());
+                }
+                int done = loaded.incrementAndGet();
+                if (listener != null) {
+                    SwingUtilities.invokeLater(() -> listener.progress(done, total, name));
+                }
+            }, pool);
+        }
+        return CompletableFuture.allOf(futures).whenComplete((result, error) -> pool.shutdown());
+    }
+}
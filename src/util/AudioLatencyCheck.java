@@ -0,0 +1,43 @@
+package util;
+
+import java.util.Random;
+
+// 오디오 장치 없이 효과음 재생 시작 지연을 재는 실행용 점검 (NullOutputLine 사용)
+// 실행: java util.AudioLatencyCheck [버퍼ms] [재생 횟수]
+// 짧은 효과음을 불규칙한 간격으로 재생 요청하고, 가장 느린 시작 지연이
+// 버퍼 길이 + 조각 하나(AudioMixer가 보장하는 상한)에 스케줄링 여유를 더한 값을 넘으면 실패로 끝냄 (종료 코드 1)
+public class AudioLatencyCheck {
+
+    private static final double SLACK_MILLIS = 15.0; // 스레드 스케줄링 등으로 생기는 여유
+
+    public static void main(String[] args) throws InterruptedException {
+        int bufferMillis = (args.length > 0) ? Integer.parseInt(args[0]) : 50;
+        int plays = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+
+        int bufferBytes = (int) (AudioMixer.MIX_FORMAT.getFrameRate() * bufferMillis / 1000)
+                * AudioMixer.MIX_FORMAT.getFrameSize();
+        AudioMixer mixer = new AudioMixer(new AudioMixer.NullOutputLine(AudioMixer.MIX_FORMAT, bufferBytes));
+        AudioMixer.Sample sample = new AudioMixer.Sample(new short[2 * 4410], 4); // 0.1초
+        try {
+            Random random = new Random(1);
+            for (int i = 0; i < plays; i++) {
+                mixer.play(sample, 1.0f);
+                Thread.sleep(random.nextInt(20));
+            }
+            Thread.sleep(bufferMillis * 2L); // 마지막 요청이 섞일 때까지
+        } finally {
+            mixer.close();
+        }
+
+        LatencyHistogram latency = mixer.getStartLatency();
+        double limit = mixer.getBufferMillis() + mixer.getChunkMillis() + SLACK_MILLIS;
+        double max = latency.getMax() / 1e6;
+        System.out.println(mixer.getStatsText());
+        System.out.printf("최대 시작 지연 %.1fms, 한도 %.1fms (버퍼 %.1fms + 조각 %.1fms + 여유 %.0fms)%n",
+                max, limit, mixer.getBufferMillis(), mixer.getChunkMillis(), SLACK_MILLIS);
+        if (latency.getCount() < plays || max > limit) {
+            System.err.println("재생 시작 지연 점검 실패: 섞인 요청 " + latency.getCount() + "/" + plays);
+            System.exit(1);
+        }
+    }
+}
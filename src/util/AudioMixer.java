@@ -0,0 +1,605 @@
+package util;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 게임의 모든 소리를 하나의 출력 라인으로 내보내는 소프트웨어 믹서
+// 효과음은 미리 믹서 형식(16비트 스테레오 PCM)의 샘플로 디코딩해 두고, 배경음악은 스트림 voice로 조금씩 읽음
+// 믹서 스레드가 재생 중인 voice들을 voice별 음량을 곱해 더한 뒤, 출력 버퍼의 1/4 크기 조각으로 라인에 씀
+// 라인에 쓰는 일이 버퍼가 빌 때까지 기다리므로 믹서는 실제 재생 속도에 맞춰 돌고,
+// 새 효과음은 다음 조각에 섞이므로 재생 시작 지연은 출력 버퍼 길이 + 조각 하나 이내
+// 효과음 재생 요청은 큐에 넣기만 하므로 어느 스레드에서 호출해도 기다리지 않음
+// 믹서 스레드는 리소스를 열거나 배열을 새로 만들지 않음. 스트림은 호출한 스레드와 stream-opener 스레드가 미리 열어 둠
+public class AudioMixer {
+
+    // 믹서 출력 형식: 44.1kHz, 16비트, 스테레오, little-endian
+    public static final AudioFormat MIX_FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+    private static final int CHANNELS = 2;
+    private static final int FRAME_BYTES = 4;
+    private static final int FADE_FRAMES = 64; // 끊기는 voice를 줄여 나가는 길이 (딸깍 소리 방지)
+
+    // 같은 효과음이 maxVoices만큼 재생 중일 때 새 재생이 어느 voice를 끊을지 정하는 정책
+    public enum VoicePolicy {
+        ROUND_ROBIN,  // 재생 중이든 아니든 순서대로 다음 자리를 쓰고, 그 자리의 voice를 끊음
+        STEAL_OLDEST; // 자리가 남으면 그대로 쓰고, 모두 재생 중이면 가장 먼저 시작한 voice를 끊음
+
+        // 시스템 속성 값 등에서 정책 해석. 알 수 없는 값이면 기본 정책
+        public static VoicePolicy parse(String value, VoicePolicy defaultPolicy) {
+            if (value == null) {
+                return defaultPolicy;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("알 수 없는 효과음 voice 정책: " + value);
+                return defaultPolicy;
+            }
+        }
+    }
+
+    // 믹서가 소리를 내보내는 출력 라인
+    public interface OutputLine {
+        // 버퍼에 자리가 날 때까지 기다렸다가 씀
+        void write(byte[] data, int offset, int length);
+
+        // 라인 버퍼 크기 (바이트)
+        int getBufferBytes();
+
+        // 아직 재생되지 않고 버퍼에 남아 있는 바이트 수
+        int getQueuedBytes();
+
+        void close();
+    }
+
+    // 실제 오디오 장치로 내보내는 출력 라인
+    public static final class SourceLineOutput implements OutputLine {
+        private final SourceDataLine line;
+
+        public SourceLineOutput(AudioFormat format, int bufferBytes) throws LineUnavailableException {
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, bufferBytes);
+            line.start();
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            line.write(data, offset, length);
+        }
+
+        @Override
+        public int getBufferBytes() {
+            return line.getBufferSize();
+        }
+
+        @Override
+        public int getQueuedBytes() {
+            return line.getBufferSize() - line.available();
+        }
+
+        @Override
+        public void close() {
+            line.stop();
+            line.flush();
+            line.close();
+        }
+    }
+
+    // 소리를 버리되 실제 장치처럼 재생 속도로 버퍼를 비우는 출력 라인
+    // 오디오 장치가 없는 환경의 대체 라인이자, 장치 없이 재생 시작 지연을 측정하는 데 씀
+    public static final class NullOutputLine implements OutputLine {
+        private final int bufferBytes;
+        private final double bytesPerNano;
+        private double queued = 0;              // 버퍼에 남은 바이트 수 (가상)
+        private long lastDrain = System.nanoTime();
+        private long bytesWritten = 0;
+
+        public NullOutputLine(AudioFormat format, int bufferBytes) {
+            this.bufferBytes = bufferBytes;
+            this.bytesPerNano = format.getFrameRate() * format.getFrameSize() / 1e9;
+        }
+
+        @Override
+        public synchronized void write(byte[] data, int offset, int length) {
+            drain();
+            // 버퍼에 length만큼 자리가 날 때까지 재생 속도로 기다림
+            while (queued + length > bufferBytes) {
+                long waitNanos = (long) ((queued + length - bufferBytes) / bytesPerNano);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 100_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                drain();
+            }
+            queued += length;
+            bytesWritten += length;
+        }
+
+        @Override
+        public int getBufferBytes() {
+            return bufferBytes;
+        }
+
+        @Override
+        public synchronized int getQueuedBytes() {
+            drain();
+            return (int) queued;
+        }
+
+        public synchronized long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void drain() {
+            long now = System.nanoTime();
+            queued = Math.max(0, queued - (now - lastDrain) * bytesPerNano);
+            lastDrain = now;
+        }
+    }
+
+    // 믹서 형식으로 디코딩된 효과음. 여러 voice가 같은 데이터를 함께 읽음
+    public static final class Sample {
+        private final short[] data; // 스테레오 인터리브
+        private final int frames;
+        private final int maxVoices; // 동시에 재생할 수 있는 voice 수. 넘으면 VoicePolicy에 따라 하나를 줄여 끊음
+        private final SampleVoice[] slots; // ROUND_ROBIN에서 자리별로 마지막에 쓴 voice (믹서 스레드 전용)
+        private int nextSlot = 0;          // ROUND_ROBIN에서 다음에 쓸 자리 (믹서 스레드 전용)
+
+        public Sample(short[] data, int maxVoices) {
+            this.data = data;
+            this.frames = data.length / CHANNELS;
+            this.maxVoices = Math.max(1, maxVoices);
+            this.slots = new SampleVoice[this.maxVoices];
+        }
+
+        public int getFrames() {
+            return frames;
+        }
+    }
+
+    // 스트림 voice가 읽을 스트림을 여는 방법. 반복할 때마다 새로 열어서 처음부터 읽음
+    public interface StreamSource {
+        AudioInputStream open() throws Exception;
+    }
+
+    // 재생 중인 소리 하나. 믹서 스레드에서만 진행시키고, gain과 stop은 다른 스레드에서 바꿀 수 있음
+    public abstract static class Voice {
+        private volatile float gain;
+        private volatile boolean stopRequested = false;
+        final long triggeredAt = System.nanoTime();
+        long startedAt = 0; // 믹서에 처음 섞인 시각 (믹서 스레드 전용)
+        int fadeLeft = -1;  // 줄여 나가는 중이면 남은 프레임 수
+
+        Voice(float gain) {
+            this.gain = gain;
+        }
+
+        public void setGain(float gain) {
+            this.gain = gain;
+        }
+
+        public float getGain() {
+            return gain;
+        }
+
+        // 짧게 줄여서 멈춤
+        public void stop() {
+            stopRequested = true;
+        }
+
+        // mix에 frames 프레임만큼 더함. 끝났으면 false
+        abstract boolean mixInto(int[] mix, int frames, float gain);
+
+        void close() {
+        }
+    }
+
+    private static final class SampleVoice extends Voice {
+        private final Sample sample;
+        private final VoicePolicy policy;
+        private int position = 0;          // 다음에 읽을 프레임
+        private boolean finished = false;  // 재생 목록에서 빠짐 (믹서 스레드 전용)
+
+        SampleVoice(Sample sample, float gain, VoicePolicy policy) {
+            super(gain);
+            this.sample = sample;
+            this.policy = policy;
+        }
+
+        @Override
+        boolean mixInto(int[] mix, int frames, float gain) {
+            int count = Math.min(frames, sample.frames - position);
+            short[] data = sample.data;
+            int src = position * CHANNELS;
+            for (int i = 0; i < count * CHANNELS; i++) {
+                mix[i] += (int) (data[src + i] * gain);
+            }
+            position += count;
+            return position < sample.frames;
+        }
+
+        @Override
+        void close() {
+            finished = true;
+        }
+    }
+
+    // 스트림에서 조금씩 읽는 voice. 끝에 닿으면 미리 열어 둔 다음 스트림으로 넘어가 반복 (loop일 때)
+    // 첫 스트림은 만든 스레드에서, 반복용 스트림은 opener에서 열어 두므로 믹서 스레드는 읽기만 함
+    private static final class StreamVoice extends Voice {
+        private final StreamSource source;
+        private final boolean loop;
+        private final ExecutorService opener;
+        private final AtomicReference<AudioInputStream> next = new AtomicReference<AudioInputStream>(); // 다음 반복용
+        private volatile boolean closed = false;
+        private volatile boolean openFailed = false;
+        private AudioInputStream stream; // 지금 읽는 스트림 (믹서 스레드 전용)
+        private final byte[] bytes;      // 조각 하나 크기의 읽기 버퍼
+
+        StreamVoice(StreamSource source, boolean loop, float gain, ExecutorService opener, int chunkFrames)
+                throws Exception {
+            super(gain);
+            this.source = source;
+            this.loop = loop;
+            this.opener = opener;
+            this.bytes = new byte[chunkFrames * FRAME_BYTES];
+            this.stream = openMixStream(source.open());
+            if (loop) {
+                prepareNext();
+            }
+        }
+
+        // 다음 반복에 쓸 스트림을 opener 스레드에서 열어 둠
+        // 믹서를 닫는 중이면 열지 않고 끝난 것으로 처리
+        private void prepareNext() {
+            try {
+                opener.execute(() -> {
+                    try {
+                        next.set(openMixStream(source.open()));
+                    } catch (Exception e) {
+                        System.err.println("오디오 스트림 열기 실패: " + e.getMessage());
+                        openFailed = true;
+                    }
+                    if (closed) {
+                        closeQuietly(next.getAndSet(null)); // 그사이 끝난 voice면 바로 닫음
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                openFailed = true;
+            }
+        }
+
+        @Override
+        boolean mixInto(int[] mix, int frames, float gain) {
+            int want = frames * FRAME_BYTES;
+            int filled = 0;
+            boolean ended = false;
+            boolean switched = false;
+            try {
+                while (filled < want) {
+                    if (stream == null) {
+                        AudioInputStream upcoming = next.getAndSet(null);
+                        if (upcoming == null) {
+                            // 다음 스트림이 아직 열리지 않았으면 이번 조각은 남은 부분을 비워 두고 다음 조각에서 이어 감
+                            ended = openFailed;
+                            break;
+                        }
+                        stream = upcoming;
+                        switched = true;
+                        prepareNext();
+                    }
+                    int read = stream.read(bytes, filled, want - filled);
+                    if (read > 0) {
+                        filled += read;
+                        switched = false;
+                        continue;
+                    }
+                    closeQuietly(stream);
+                    stream = null;
+                    if (!loop || switched) {
+                        ended = true; // 끝났거나, 새 스트림에도 읽을 것이 없음
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("오디오 스트림 읽기 실패: " + e.getMessage());
+                return false;
+            }
+            for (int i = 0; i + 1 < filled; i += 2) {
+                mix[i / 2] += (int) ((short) ((bytes[i] & 0xFF) | (bytes[i + 1] << 8)) * gain);
+            }
+            return !ended;
+        }
+
+        @Override
+        void close() {
+            closed = true;
+            closeQuietly(stream);
+            stream = null;
+            closeQuietly(next.getAndSet(null));
+        }
+
+        private static void closeQuietly(AudioInputStream in) {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private final OutputLine output;
+    private final int chunkFrames;
+    private final ConcurrentLinkedQueue<Voice> pending = new ConcurrentLinkedQueue<Voice>(); // 재생 요청 (아무 스레드)
+    private final List<Voice> active = new ArrayList<Voice>();                                // 재생 중 (믹서 스레드 전용)
+    private final int[] fadeScratch = new int[FADE_FRAMES * CHANNELS];                       // 줄여 나가는 voice용 (믹서 스레드 전용)
+    private final Thread mixerThread;
+    private volatile boolean running = true;
+
+    // 반복 재생할 스트림을 미리 여는 스레드 (믹서 스레드가 리소스 I/O를 기다리지 않도록)
+    private final ExecutorService streamOpener = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stream-opener");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 지표
+    private final LatencyHistogram startLatency = new LatencyHistogram(); // 재생 요청부터 소리가 나기까지 (추정)
+    private volatile int activeVoices = 0;
+    private volatile long underruns = 0; // 믹싱이 늦어서 라인 버퍼가 비어 있던 횟수
+
+    public AudioMixer(OutputLine output) {
+        this.output = output;
+        this.chunkFrames = Math.max(64, output.getBufferBytes() / FRAME_BYTES / 4);
+        mixerThread = new Thread(this::mixLoop, "audio-mixer");
+        mixerThread.setDaemon(true);
+        mixerThread.setPriority(Thread.MAX_PRIORITY);
+        mixerThread.start();
+    }
+
+    // 오디오 장치로 내보내는 믹서. 장치를 열 수 없으면 소리 없이 도는 NullOutputLine 사용
+    public static AudioMixer open(int bufferMillis) {
+        int bufferBytes = (int) (MIX_FORMAT.getFrameRate() * bufferMillis / 1000) * FRAME_BYTES;
+        OutputLine output;
+        try {
+            output = new SourceLineOutput(MIX_FORMAT, bufferBytes);
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("오디오 출력 라인을 열 수 없어 소리 없이 진행: " + e.getMessage());
+            output = new NullOutputLine(MIX_FORMAT, bufferBytes);
+        }
+        return new AudioMixer(output);
+    }
+
+    // 오디오 스트림 전체를 믹서 형식의 샘플로 디코딩
+    // 샘플레이트가 다르면 선형 보간으로 맞추고, 모노는 양쪽 채널에 복사
+    public static Sample decode(AudioInputStream in, int maxVoices) throws IOException {
+        AudioFormat source = in.getFormat();
+        int channels = source.getChannels();
+        AudioFormat pcm16 = new AudioFormat(source.getSampleRate(), 16, channels, true, false);
+        AudioInputStream converted = AudioSystem.getAudioInputStream(pcm16, in);
+        byte[] bytes = converted.readAllBytes();
+        int sourceFrames = bytes.length / (2 * channels);
+
+        double step = source.getSampleRate() / MIX_FORMAT.getSampleRate(); // 출력 한 프레임당 원본 프레임 수
+        int frames = (int) Math.floor((sourceFrames - 1) / step) + 1;
+        if (sourceFrames == 0) {
+            frames = 0;
+        }
+        short[] data = new short[frames * CHANNELS];
+        for (int f = 0; f < frames; f++) {
+            double pos = f * step;
+            int i0 = (int) pos;
+            int i1 = Math.min(i0 + 1, sourceFrames - 1);
+            double t = pos - i0;
+            for (int c = 0; c < CHANNELS; c++) {
+                int sc = Math.min(c, channels - 1);
+                double a = sampleAt(bytes, i0, sc, channels);
+                double b = sampleAt(bytes, i1, sc, channels);
+                data[f * CHANNELS + c] = (short) Math.round(a + (b - a) * t);
+            }
+        }
+        return new Sample(data, maxVoices);
+    }
+
+    private static short sampleAt(byte[] bytes, int frame, int channel, int channels) {
+        int i = (frame * channels + channel) * 2;
+        return (short) ((bytes[i] & 0xFF) | (bytes[i + 1] << 8));
+    }
+
+    // 스트림을 믹서 형식으로 변환. 샘플레이트가 같아야 함 (배경음악용)
+    private static AudioInputStream openMixStream(AudioInputStream in) {
+        if (in.getFormat().matches(MIX_FORMAT)) {
+            return in;
+        }
+        AudioFormat source = in.getFormat();
+        AudioFormat pcm16 = new AudioFormat(source.getSampleRate(), 16, source.getChannels(), true, false);
+        AudioInputStream pcm = AudioSystem.getAudioInputStream(pcm16, in);
+        return AudioSystem.getAudioInputStream(MIX_FORMAT, pcm);
+    }
+
+    // 효과음 재생. 큐에 넣고 바로 반환. 같은 효과음이 maxVoices만큼 재생 중이면 가장 오래된 voice를 끊음
+    public Voice play(Sample sample, float gain) {
+        return play(sample, gain, VoicePolicy.STEAL_OLDEST);
+    }
+
+    // 효과음 재생. 같은 효과음이 maxVoices만큼 재생 중이면 policy에 따라 끊을 voice를 고름
+    public Voice play(Sample sample, float gain, VoicePolicy policy) {
+        Voice voice = new SampleVoice(sample, gain, policy);
+        pending.add(voice);
+        return voice;
+    }
+
+    // 스트림 재생 (배경음악). 첫 스트림을 호출한 스레드에서 열고 믹서 형식으로 변환한 뒤 큐에 넣음
+    // 리소스를 읽으므로 EDT가 아닌 작업 스레드에서 호출. 열 수 없으면 예외
+    public Voice playStream(StreamSource source, boolean loop, float gain) throws Exception {
+        Voice voice = new StreamVoice(source, loop, gain, streamOpener, chunkFrames);
+        pending.add(voice);
+        return voice;
+    }
+
+    // 믹서 스레드를 멈추고 출력 라인을 닫음. 여러 번 불러도 됨
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            mixerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        streamOpener.shutdownNow();
+        output.close();
+    }
+
+    // 재생 요청부터 그 소리가 출력될 때까지의 시간 분포 (섞인 시각 + 그때 라인 버퍼에 남아 있던 길이)
+    public LatencyHistogram getStartLatency() {
+        return startLatency;
+    }
+
+    public int getActiveVoices() {
+        return activeVoices;
+    }
+
+    public long getUnderruns() {
+        return underruns;
+    }
+
+    public double getBufferMillis() {
+        return output.getBufferBytes() / (double) FRAME_BYTES / MIX_FORMAT.getFrameRate() * 1000.0;
+    }
+
+    // 믹서가 한 번에 라인에 쓰는 조각의 길이
+    public double getChunkMillis() {
+        return chunkFrames / MIX_FORMAT.getFrameRate() * 1000.0;
+    }
+
+    public String getStatsText() {
+        return String.format("오디오 믹서: 버퍼 %.0fms, voice %d개, 버퍼 비움 %d회, 시작 지연 %s",
+                getBufferMillis(), activeVoices, underruns, startLatency.summary());
+    }
+
+    private void mixLoop() {
+        int[] mix = new int[chunkFrames * CHANNELS];
+        byte[] out = new byte[chunkFrames * FRAME_BYTES];
+        while (running) {
+            admitPending();
+            Arrays.fill(mix, 0);
+            long queuedNanos = (long) (output.getQueuedBytes() / (double) FRAME_BYTES
+                    / MIX_FORMAT.getFrameRate() * 1e9);
+            if (queuedNanos == 0) {
+                underruns++;
+            }
+            long now = System.nanoTime();
+            for (int v = active.size() - 1; v >= 0; v--) {
+                Voice voice = active.get(v);
+                if (voice.startedAt == 0) {
+                    voice.startedAt = now;
+                    startLatency.record(now - voice.triggeredAt + queuedNanos);
+                }
+                if (!mixVoice(voice, mix)) {
+                    voice.close();
+                    active.remove(v);
+                }
+            }
+            activeVoices = active.size();
+            for (int i = 0; i < mix.length; i++) {
+                int s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+                out[i * 2] = (byte) s;
+                out[i * 2 + 1] = (byte) (s >> 8);
+            }
+            output.write(out, 0, out.length); // 라인 버퍼에 자리가 날 때까지 기다리므로 재생 속도에 맞춰짐
+        }
+        for (Voice voice : active) {
+            voice.close();
+        }
+    }
+
+    // 요청된 voice를 재생 목록에 넣음. 같은 샘플의 voice가 maxVoices를 넘지 않도록 VoicePolicy에 따라 하나를 줄여 끊음
+    private void admitPending() {
+        Voice voice;
+        while ((voice = pending.poll()) != null) {
+            if (voice instanceof SampleVoice) {
+                SampleVoice sampleVoice = (SampleVoice) voice;
+                if (sampleVoice.policy == VoicePolicy.ROUND_ROBIN) {
+                    takeNextSlot(sampleVoice);
+                } else {
+                    stealOldest(sampleVoice.sample);
+                }
+            }
+            active.add(voice);
+        }
+    }
+
+    // ROUND_ROBIN: 다음 자리를 쓰고, 그 자리에서 아직 재생 중인 voice는 줄여 끊음
+    private void takeNextSlot(SampleVoice voice) {
+        Sample sample = voice.sample;
+        SampleVoice previous = sample.slots[sample.nextSlot];
+        if (previous != null && !previous.finished && previous.fadeLeft < 0) {
+            previous.fadeLeft = FADE_FRAMES;
+        }
+        sample.slots[sample.nextSlot] = voice;
+        sample.nextSlot = (sample.nextSlot + 1) % sample.maxVoices;
+    }
+
+    // STEAL_OLDEST: 같은 샘플이 maxVoices만큼 재생 중이면 가장 먼저 시작한 voice를 줄여 끊음
+    private void stealOldest(Sample sample) {
+        SampleVoice oldest = null;
+        int playing = 0;
+        for (Voice other : active) {
+            if (other instanceof SampleVoice && ((SampleVoice) other).sample == sample && other.fadeLeft < 0) {
+                playing++;
+                if (oldest == null) {
+                    oldest = (SampleVoice) other; // 먼저 들어온 voice가 목록 앞에 있음
+                }
+            }
+        }
+        if (playing >= sample.maxVoices && oldest != null) {
+            oldest.fadeLeft = FADE_FRAMES;
+        }
+    }
+
+    // voice 하나를 섞음. 멈춤 요청이 있거나 끊기는 중이면 FADE_FRAMES에 걸쳐 음량을 줄인 뒤 끝냄
+    private boolean mixVoice(Voice voice, int[] mix) {
+        if (voice.stopRequested && voice.fadeLeft < 0) {
+            voice.fadeLeft = FADE_FRAMES;
+        }
+        float gain = voice.gain;
+        if (voice.fadeLeft < 0) {
+            return voice.mixInto(mix, chunkFrames, gain);
+        }
+        // 줄여 나가는 구간만 따로 섞어서 프레임마다 음량을 낮춤
+        int frames = Math.min(voice.fadeLeft, chunkFrames);
+        int[] faded = fadeScratch;
+        Arrays.fill(faded, 0, frames * CHANNELS, 0);
+        voice.mixInto(faded, frames, gain);
+        for (int f = 0; f < frames; f++) {
+            float ramp = (voice.fadeLeft - f) / (float) FADE_FRAMES;
+            for (int c = 0; c < CHANNELS; c++) {
+                mix[f * CHANNELS + c] += (int) (faded[f * CHANNELS + c] * ramp);
+            }
+        }
+        voice.fadeLeft -= frames;
+        return voice.fadeLeft > 0;
+    }
+}
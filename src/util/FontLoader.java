@@ -1,16 +1,92 @@
 package util;
 
 import java.awt.*;
+import java.awt.font.FontRenderContext;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 // 폰트 리소스를 로드하는 유틸리티 클래스
+// 폰트 파일은 한 번만 파싱/등록하고, 크기·스타일별 파생 폰트와 텍스트 너비를 캐싱하여 재사용
+// 텍스트 너비는 폰트별로 최근에 쓴 MAX_WIDTHS_PER_FONT개만 기억하므로, 숫자가 바뀌는 지표 문구처럼
+// 매번 다른 텍스트를 재도 캐시가 계속 커지지 않음
 public class FontLoader {
+
+    private static final int MAX_WIDTHS_PER_FONT = 512; // 넘으면 가장 오래 쓰지 않은 텍스트부터 버림
+
+    // 파일명 -> 파싱된 원본 폰트 (파일당 한 번만 createFont/registerFont 수행)
+    private static final Map<String, Font> baseFonts = new ConcurrentHashMap<>();
+    // (파일명, 크기, 스타일) -> 파생 폰트
+    private static final Map<DerivedKey, Font> derivedFonts = new ConcurrentHashMap<>();
+    // (폰트, 렌더 컨텍스트) -> (텍스트 -> 픽셀 너비)
+    private static final Map<WidthKey, WidthCache> textWidths = new ConcurrentHashMap<>();
+
+    private record DerivedKey(String fileName, float size, int style) {}
+
+    private record WidthKey(Font font, FontRenderContext frc) {}
+
+    // 최근에 쓴 순서로 정렬되어, 크기를 넘으면 가장 오래 쓰지 않은 텍스트를 버리는 너비 캐시 (자기 자신으로 동기화)
+    private static final class WidthCache extends LinkedHashMap<String, Integer> {
+        WidthCache() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_WIDTHS_PER_FONT;
+        }
+    }
+
     public static Font getFont(String fileName, float size) {
-        try {
-            InputStream is = FontLoader.class.getResourceAsStream("/resources/fonts/" + fileName);
+        return getFont(fileName, size, Font.PLAIN);
+    }
+
+    // 지정한 크기와 스타일의 폰트 반환. 같은 조합은 캐시된 인스턴스를 그대로 돌려줌
+    public static Font getFont(String fileName, float size, int style) {
+        return derivedFonts.computeIfAbsent(new DerivedKey(fileName, size, style),
+                key -> getBaseFont(key.fileName()).deriveFont(key.style(), key.size()));
+    }
+
+    // 폰트 파일이 이미 파싱되었으면 getFont와 같고, 아직이면 기다리지 않고 fallback을 같은 크기·스타일로 바꿔 반환
+    // EDT에서 화면을 만들 때 미리 읽기 중인 폰트 파싱을 기다리지 않도록 사용하며, 미리 읽기가 끝난 뒤 다시 불러 적용
+    public static Font getFontIfLoaded(String fileName, float size, int style, Font fallback) {
+        if (baseFonts.containsKey(fileName)) {
+            return getFont(fileName, size, style);
+        }
+        return fallback.deriveFont(style, size);
+    }
+
+    // 폰트 파일을 미리 파싱/등록 (AssetPreloader용)
+    public static void preload(String fileName) {
+        getBaseFont(fileName);
+    }
+
+    // FontMetrics 기준 텍스트 너비 반환. (폰트, 렌더 컨텍스트, 텍스트) 별로 캐시에 남아 있는 동안은 다시 재지 않음
+    public static int stringWidth(FontMetrics fm, String text) {
+        WidthCache widths = textWidths.computeIfAbsent(
+                new WidthKey(fm.getFont(), fm.getFontRenderContext()),
+                key -> new WidthCache());
+        synchronized (widths) {
+            Integer width = widths.get(text);
+            if (width == null) {
+                width = fm.stringWidth(text);
+                widths.put(text, width);
+            }
+            return width;
+        }
+    }
+
+    // 폰트 파일을 파싱하여 등록. 실패한 경우에도 대체 폰트를 캐싱하여 재시도하지 않음
+    private static Font getBaseFont(String fileName) {
+        return baseFonts.computeIfAbsent(fileName, FontLoader::loadFont);
+    }
+
+    private static Font loadFont(String fileName) {
+        try (InputStream is = FontLoader.class.getResourceAsStream("/resources/fonts/" + fileName)) {
             if (is == null) {
                 System.err.println("폰트 찾을 수 없음: " + fileName);
-                return new Font("Malgun Gothic", Font.PLAIN, (int)size);
+                return new Font("Malgun Gothic", Font.PLAIN, 1);
             }
 
             // 폰트 생성
@@ -19,10 +95,10 @@ public class FontLoader {
             GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
             ge.registerFont(font);
 
-            return font.deriveFont(size);
+            return font;
         } catch (Exception e) {
             System.err.println(e.getMessage());
-            return new Font("Malgun Gothic", Font.PLAIN, (int)size);
+            return new Font("Malgun Gothic", Font.PLAIN, 1);
         }
     }
 }
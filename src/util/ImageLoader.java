@@ -3,21 +3,60 @@ package util;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 // 이미지 리소스를 로드하고 관리하는 유틸리티 클래스
 // 이미지를 캐싱하여 재사용성을 높이고, 로드 실패 시 대체 이미지 생성
+// 여러 스레드에서 동시에 불러도 됨 (AssetPreloader가 작업 스레드에서 미리 읽음)
+// 읽은 이미지는 화면 장치와 호환되는 형식으로 바꿔 두므로 drawImage 때마다 픽셀 변환이 일어나지 않음
+// 크기를 바꾼 이미지는 (경로, 너비, 높이)별로 캐싱하고, 합계가 예산을 넘으면 가장 오래 안 쓴 것부터 버림 (LRU)
 public class ImageLoader {
 
-    private static final Map<String, BufferedImage> imageCache = new HashMap<>();
+    private static final long DEFAULT_SCALED_BUDGET_BYTES = 32L * 1024 * 1024; // -Dmeteor.imageCacheBytes 로 변경 가능
+
+    // 원본 이미지 캐시 (버리지 않음)
+    private static final Map<String, BufferedImage> imageCache = new ConcurrentHashMap<>();
+
+    // 크기를 바꾼 이미지 캐시. 접근 순서로 정렬되므로 맨 앞이 가장 오래 안 쓴 이미지 (scaledCache 자체로 동기화)
+    private record ScaledKey(String path, int width, int height) {}
+    private static final LinkedHashMap<ScaledKey, BufferedImage> scaledCache = new LinkedHashMap<>(16, 0.75f, true);
+    private static long scaledBytes = 0;
+    private static long scaledBudgetBytes = Long.getLong("meteor.imageCacheBytes", DEFAULT_SCALED_BUDGET_BYTES);
+
+    // 통계
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+    private static final AtomicLong originalBytes = new AtomicLong();
+
+    // 이미 읽어 둔 이미지 반환. 아직 없으면 읽지 않고 null (그리기 도중 디코딩을 기다리지 않도록)
+    public static BufferedImage getLoadedImage(String path) {
+        return imageCache.get(path);
+    }
 
     // 지정된 경로의 이미지 로드
     public static BufferedImage getImage(String path) {
-        if (imageCache.containsKey(path)) {
-            return imageCache.get(path);
+        BufferedImage cached = imageCache.get(path);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        return loadImage(path);
+    }
+
+    // 원본 이미지를 읽어 캐시에 넣음 (통계는 호출한 쪽에서 셈)
+    private static BufferedImage loadImage(String path) {
+        BufferedImage cached = imageCache.get(path);
+        if (cached != null) {
+            return cached;
         }
 
         BufferedImage image = null;
@@ -35,12 +74,149 @@ public class ImageLoader {
             image = createPlaceholderImage(path);
         }
 
-        if (image != null) {
-            imageCache.put(path, image);
+        if (image == null) {
+            return null;
+        }
+        image = toCompatible(image, image.getWidth(), image.getHeight());
+        // 다른 스레드가 먼저 읽어 넣었다면 그것을 사용
+        BufferedImage existing = imageCache.putIfAbsent(path, image);
+        if (existing != null) {
+            return existing;
         }
+        originalBytes.addAndGet(bytesOf(image));
         return image;
     }
 
+    // 지정한 크기로 바꾼 이미지 반환. 같은 (경로, 너비, 높이)는 캐시된 이미지를 그대로 돌려줌
+    // 돌려받은 이미지는 캐시에서 버려져도 그대로 쓸 수 있으므로, 자주 그리는 쪽은 필드에 들고 있으면 됨
+    public static BufferedImage getScaledImage(String path, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return getImage(path);
+        }
+        ScaledKey key = new ScaledKey(path, width, height);
+        synchronized (scaledCache) {
+            BufferedImage cached = scaledCache.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        BufferedImage loaded = imageCache.get(path);
+        if (loaded != null && loaded.getWidth() == width && loaded.getHeight() == height) {
+            hits.incrementAndGet();
+            return loaded; // 원본과 크기가 같으면 원본을 그대로 씀
+        }
+        misses.incrementAndGet();
+        BufferedImage source = loadImage(path);
+        if (source == null || (source.getWidth() == width && source.getHeight() == height)) {
+            return source; // 원본과 크기가 같으면 원본을 그대로 씀
+        }
+
+        BufferedImage scaled = toCompatible(source, width, height); // 잠금 밖에서 스케일링
+        long bytes = bytesOf(scaled);
+        synchronized (scaledCache) {
+            BufferedImage existing = scaledCache.get(key);
+            if (existing != null) {
+                return existing; // 다른 스레드가 먼저 만듦
+            }
+            if (bytes > scaledBudgetBytes) {
+                return scaled; // 예산보다 큰 이미지는 캐싱하지 않음
+            }
+            scaledCache.put(key, scaled);
+            scaledBytes += bytes;
+            evictOverBudget();
+        }
+        return scaled;
+    }
+
+    // 크기를 바꾼 이미지 캐시의 메모리 예산 변경
+    public static void setScaledBudgetBytes(long budgetBytes) {
+        synchronized (scaledCache) {
+            scaledBudgetBytes = Math.max(0, budgetBytes);
+            evictOverBudget();
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getEvictions() {
+        return evictions.get();
+    }
+
+    // 캐시가 들고 있는 이미지의 픽셀 메모리 (원본 + 크기를 바꾼 이미지)
+    public static long getBytesHeld() {
+        synchronized (scaledCache) {
+            return originalBytes.get() + scaledBytes;
+        }
+    }
+
+    public static String getStatsText() {
+        synchronized (scaledCache) {
+            return String.format("이미지 캐시: 적중 %d, 실패 %d, 버림 %d, 원본 %d개 %.1fMB, 크기 변경 %d개 %.1fMB / %.1fMB",
+                    hits.get(), misses.get(), evictions.get(),
+                    imageCache.size(), originalBytes.get() / 1048576.0,
+                    scaledCache.size(), scaledBytes / 1048576.0, scaledBudgetBytes / 1048576.0);
+        }
+    }
+
+    // 예산을 넘는 동안 가장 오래 안 쓴 이미지부터 버림. scaledCache를 잡은 상태에서 호출
+    private static void evictOverBudget() {
+        Iterator<BufferedImage> it = scaledCache.values().iterator();
+        while (scaledBytes > scaledBudgetBytes && it.hasNext()) {
+            scaledBytes -= bytesOf(it.next());
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    // 기본 화면 장치와 호환되는 형식의 width x height 이미지로 옮겨 그림
+    // 이미 호환 형식이고 크기도 같으면 그대로 반환. 화면이 없는 환경(headless)에서는 INT_RGB/INT_ARGB 사용
+    private static BufferedImage toCompatible(BufferedImage source, int width, int height) {
+        GraphicsConfiguration gc = defaultConfiguration();
+        int transparency = source.getTransparency();
+        if (width == source.getWidth() && height == source.getHeight()) {
+            boolean compatible = (gc != null)
+                    ? source.getColorModel().equals(gc.getColorModel(transparency))
+                    : source.getType() == (transparency == Transparency.OPAQUE
+                            ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            if (compatible) {
+                return source;
+            }
+        }
+        BufferedImage target = (gc != null)
+                ? gc.createCompatibleImage(width, height, transparency)
+                : new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                        ? BufferedImage.TYPE_INT_RGB
+                        : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return target;
+    }
+
+    private static GraphicsConfiguration defaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    // 이미지 픽셀 데이터의 바이트 수
+    private static long bytesOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
     // 이미지를 찾을 수 없을 때 보여줄 임시 이미지 생성
     private static BufferedImage createPlaceholderImage(String path) {
         // 이미지 용도에 따라 크기와 색상을 다르게 설정
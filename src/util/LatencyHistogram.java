@@ -0,0 +1,125 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 지연 시간(나노초)을 기록하는 가벼운 로그-선형 히스토그램
+// 2의 거듭제곱 구간마다 8개의 하위 구간으로 나누어 상대 오차 약 12.5% 이내로 백분위수를 계산
+// 기록은 락 없이 원자적 증가 연산 몇 번으로 끝나므로 입력/렌더링 경로에서 호출해도 부담이 적음
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // 구간당 하위 구간 수
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    // 값 하나 기록. 음수는 0으로 취급
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                break;
+            }
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : sum.get() / n;
+    }
+
+    // 백분위수 값 (p: 0~100). 해당 하위 구간의 상한값을 반환하되 최댓값을 넘지 않음
+    public long getPercentile(double p) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(p / 100.0 * n));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // 한 줄 요약 (밀리초 단위)
+    public String summary() {
+        return String.format("n=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                getCount(),
+                toMillis(getPercentile(50)),
+                toMillis(getPercentile(95)),
+                toMillis(getPercentile(99)),
+                toMillis(getMax()));
+    }
+
+    // 비어 있지 않은 구간별 개수 (파일 덤프용). 각 줄은 "구간 하한ns 구간 상한ns 개수"
+    public String bucketsText() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = counts.get(i);
+            if (c > 0) {
+                sb.append(lowerBound(i)).append(' ').append(upperBound(i)).append(' ').append(c).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // 값이 속하는 하위 구간 번호. 작은 값(0~7)은 그대로 구간 번호가 됨
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (1L << exponent) + ((long) sub << (exponent - SUB_BUCKET_BITS));
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return lowerBound(bucket) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -2,24 +2,52 @@ package util;
 
 import javax.sound.sampled.*;
 import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 // 게임 사운드를 관리하는 유틸리티 클래스
 // 효과음 재생 및 배경음악 반복 재생 기능 제공
+// 모든 소리는 AudioMixer 하나를 거쳐 출력 라인 하나로 나감
+// 효과음은 파일마다 한 번만 믹서 형식으로 디코딩해 두고, 재생할 때마다 voice를 새로 만들어 겹쳐 재생
+// 배경음악은 파일 전체를 메모리에 올리지 않고 믹서가 리소스에서 조금씩 읽는 스트림 voice로 재생
+// 디코딩, 믹서 생성(출력 라인 열기), 배경음악 스트림 열기는 전용 스레드에서 하므로 EDT와 믹서 스레드가 기다리지 않음
+// 믹서는 프로그램이 끝날 때 종료 훅에서 닫음
 public class SoundManager {
 
-    // 사운드 클립 캐시 (한번 로드한 사운드는 재사용)
-    private static final Map<String, Clip> soundCache = new HashMap<>();
-    
-    // 현재 재생 중인 배경음악 클립
-    private static Clip bgmClip;
+    private static final int VOICES_PER_EFFECT = 4;     // 효과음 하나가 동시에 낼 수 있는 소리 수
+    private static final float EFFECT_GAIN = 1.0f;
+    private static final float BGM_GAIN = 0.6f;          // 효과음이 묻히지 않도록 배경음악은 조금 작게
+    private static final int DEFAULT_BUFFER_MILLIS = 50; // -Dmeteor.audioBufferMillis 로 변경 가능
+
+    // 효과음이 VOICES_PER_EFFECT만큼 재생 중일 때 끊을 voice를 고르는 정책
+    // -Dmeteor.voicePolicy=round_robin|steal_oldest 로 지정 (기본 steal_oldest)
+    private static volatile AudioMixer.VoicePolicy voicePolicy = AudioMixer.VoicePolicy.parse(
+            System.getProperty("meteor.voicePolicy"), AudioMixer.VoicePolicy.STEAL_OLDEST);
+
+    // 믹서 형식으로 디코딩한 효과음 캐시 (한번 로드한 사운드는 재사용)
+    private static final Map<String, AudioMixer.Sample> effectCache = new ConcurrentHashMap<>();
+
+    // 디코딩 및 믹서 생성 전용 스레드. 요청을 순서대로 처리
+    private static final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sound-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile AudioMixer mixer; // 처음 소리를 낼 때 loader 스레드에서 만듦
+
+    // 현재 재생 중인 배경음악 voice
+    private static AudioMixer.Voice bgmVoice;
+    private static long bgmRequest = 0;       // 배경음악 재생/정지 요청 번호. loader가 시작하기 전에 바뀌면 시작하지 않음
     private static String currentBgmFileName; // 현재 설정된 BGM 파일명
-    private static boolean isMuted = false;
+    private static volatile boolean isMuted = false;
 
     // 음소거 설정
-    public static void setMuted(boolean muted) {
+    public static synchronized void setMuted(boolean muted) {
         isMuted = muted;
         if (isMuted) {
             stopBGM(); // 음소거 시 BGM 정지
@@ -35,81 +63,146 @@ public class SoundManager {
         return isMuted;
     }
 
-    // 효과음 재생
+    public static void setVoicePolicy(AudioMixer.VoicePolicy policy) {
+        voicePolicy = policy;
+    }
+
+    // 효과음 재생. 이미 디코딩된 효과음이면 믹서 큐에 넣고 바로 반환, 아니면 loader 스레드에서 디코딩 후 재생
     public static void playEffect(String fileName) {
         if (isMuted) return; // 음소거 상태면 재생 안 함
 
-        try {
-            Clip clip = getClip(fileName);
-            if (clip != null) {
-                if (clip.isRunning()) {
-                    clip.stop(); // 이미 재생 중이면 정지
-                }
-                clip.setFramePosition(0); // 처음으로 되감기
-                clip.start();
-            }
-        } catch (Exception e) {
-            System.err.println("효과음 재생 실패: " + fileName + " - " + e.getMessage());
+        AudioMixer current = mixer;
+        AudioMixer.Sample sample = effectCache.get(fileName);
+        if (current != null && sample != null) {
+            current.play(sample, EFFECT_GAIN, voicePolicy);
+            return;
         }
+        loader.execute(() -> {
+            AudioMixer.Sample loaded = getSample(fileName);
+            if (loaded != null && !isMuted) {
+                mixer().play(loaded, EFFECT_GAIN, voicePolicy);
+            }
+        });
+    }
+
+    // 효과음을 호출한 스레드에서 바로 디코딩하여 캐시에 넣음 (AssetPreloader용)
+    public static void loadEffect(String fileName) {
+        getSample(fileName);
     }
 
-    // 배경음악 무한 반복 재생
-    public static void playBGM(String fileName) {
+    // 배경음악 무한 반복 재생. 스트림은 loader 스레드에서 열어 믹서에 넣으므로 바로 반환
+    public static synchronized void playBGM(String fileName) {
         currentBgmFileName = fileName; // 현재 BGM 기억
         if (isMuted) return; // 음소거면 재생 안 함
 
         stopBGM(); // 기존 BGM 정지
-        try {
-            Clip clip = getClip(fileName);
-            if (clip != null) {
-                bgmClip = clip;
-                clip.setFramePosition(0);
-                clip.loop(Clip.LOOP_CONTINUOUSLY); // 무한 반복
+        long request = bgmRequest;
+        loader.execute(() -> startBgm(fileName, request));
+    }
+
+    // 재생 중인 배경음악 정지 (믹서가 짧게 줄여서 멈춤)
+    public static synchronized void stopBGM() {
+        bgmRequest++; // 아직 시작하지 않은 재생 요청 취소
+        if (bgmVoice != null) {
+            bgmVoice.stop();
+            bgmVoice = null;
+        }
+    }
+
+    // 믹서 상태와 효과음 시작 지연 요약 (믹서가 아직 없으면 null)
+    public static String getMixerStatsText() {
+        AudioMixer current = mixer;
+        return (current == null) ? null : current.getStatsText();
+    }
+
+    // loader 스레드에서 배경음악 스트림을 열어 재생. 그사이 정지/변경되었으면 시작하지 않거나 바로 멈춤
+    private static void startBgm(String fileName, long request) {
+        synchronized (SoundManager.class) {
+            if (request != bgmRequest) {
+                return;
             }
+        }
+        AudioMixer.Voice voice;
+        try {
+            voice = mixer().playStream(() -> {
+                AudioInputStream in = openAudio(fileName);
+                if (in == null) {
+                    throw new FileNotFoundException(fileName);
+                }
+                return in;
+            }, true, BGM_GAIN);
         } catch (Exception e) {
-            System.err.println("BGM 재생 실패: " + fileName + " - " + e.getMessage());
+            System.err.println("배경음악 재생 실패 (" + fileName + "): " + e.getMessage());
+            return;
+        }
+        synchronized (SoundManager.class) {
+            if (request == bgmRequest) {
+                bgmVoice = voice;
+            } else {
+                voice.stop(); // 스트림을 여는 사이 정지/변경됨
+            }
         }
     }
 
-    // 재생 중인 배경음악 정지
-    public static void stopBGM() {
-        if (bgmClip != null && bgmClip.isRunning()) {
-            bgmClip.stop();
+    // 믹서를 닫음 (종료 훅). 믹서가 없으면 아무것도 하지 않음
+    public static void shutdown() {
+        AudioMixer current = mixer;
+        if (current != null) {
+            current.close();
         }
     }
 
-    // 사운드 파일을 로드하여 Clip 객체 반환
-    private static Clip getClip(String fileName) {
-        if (soundCache.containsKey(fileName)) {
-            return soundCache.get(fileName);
+    // 믹서 반환. 처음이면 출력 라인을 열어 만듦. loader 스레드에서만 호출
+    private static AudioMixer mixer() {
+        AudioMixer current = mixer;
+        if (current == null) {
+            int bufferMillis = Integer.getInteger("meteor.audioBufferMillis", DEFAULT_BUFFER_MILLIS);
+            current = AudioMixer.open(Math.max(5, bufferMillis));
+            mixer = current;
+            Runtime.getRuntime().addShutdownHook(new Thread(SoundManager::shutdown, "sound-shutdown"));
         }
+        return current;
+    }
 
-        try {
-            // 리소스 경로에서 스트림 열기
-            // 경로가 /로 시작하면 절대 경로(classpath 기준), 아니면 상대 경로
-            String path = fileName.startsWith("/") ? fileName : "/resources/sounds/" + fileName;
-            InputStream is = SoundManager.class.getResourceAsStream(path);
-            
-            if (is == null) {
-                // fallback: sounds 폴더 직접 참조 시도
-                is = SoundManager.class.getResourceAsStream("/sounds/" + fileName);
-            }
-            
-            if (is == null) {
-                System.err.println("사운드 파일 찾을 수 없음: " + fileName);
+    // 효과음을 믹서 형식으로 디코딩하여 반환
+    // 어느 스레드에서 불러도 되며, 같은 효과음을 동시에 디코딩했다면 먼저 캐시에 넣은 것을 씀
+    private static AudioMixer.Sample getSample(String fileName) {
+        AudioMixer.Sample cached = effectCache.get(fileName);
+        if (cached != null) {
+            return cached;
+        }
+
+        try (AudioInputStream audioIn = openAudio(fileName)) {
+            if (audioIn == null) {
                 return null;
             }
-
-            // 오디오 입력 스트림 생성
-            AudioInputStream audioIn = AudioSystem.getAudioInputStream(new BufferedInputStream(is));
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioIn);
-            
-            soundCache.put(fileName, clip);
-            return clip;
+            AudioMixer.Sample sample = AudioMixer.decode(audioIn, VOICES_PER_EFFECT);
+            AudioMixer.Sample existing = effectCache.putIfAbsent(fileName, sample);
+            return (existing != null) ? existing : sample;
         } catch (Exception e) {
             System.err.println("오디오 로드 실패 (" + fileName + "): " + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // 리소스에서 오디오 스트림 열기. 파일이 없으면 null
+    private static AudioInputStream openAudio(String fileName) throws Exception {
+        // 리소스 경로에서 스트림 열기
+        // 경로가 /로 시작하면 절대 경로(classpath 기준), 아니면 상대 경로
+        String path = fileName.startsWith("/") ? fileName : "/resources/sounds/" + fileName;
+        InputStream is = SoundManager.class.getResourceAsStream(path);
+
+        if (is == null) {
+            // fallback: sounds 폴더 직접 참조 시도
+            is = SoundManager.class.getResourceAsStream("/sounds/" + fileName);
+        }
+
+        if (is == null) {
+            System.err.println("사운드 파일 찾을 수 없음: " + fileName);
+            return null;
+        }
+
+        // 오디오 입력 스트림 생성
+        return AudioSystem.getAudioInputStream(new BufferedInputStream(is));
+    }
+}
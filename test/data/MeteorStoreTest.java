@@ -0,0 +1,101 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// MeteorStore의 텍스트 색인과 swap-remove 검사
+class MeteorStoreTest {
+
+    private static int add(MeteorStore store, String text) {
+        return store.add(text, 100, 0, 0.01, 0, 0);
+    }
+
+    @Test
+    void indexOfFindsSlotOfEachWord() {
+        MeteorStore store = new MeteorStore(2); // 용량보다 많이 추가해 배열이 늘어나도 색인이 맞는지
+        add(store, "star");
+        add(store, "java");
+        add(store, "swing");
+
+        assertEquals(3, store.size());
+        for (String text : new String[] {"star", "java", "swing"}) {
+            int slot = store.indexOf(text);
+            assertEquals(text, store.getText(slot));
+        }
+        assertEquals(-1, store.indexOf("planet"));
+    }
+
+    @Test
+    void addRejectsWordAlreadyOnScreen() {
+        MeteorStore store = new MeteorStore();
+        add(store, "star");
+
+        assertEquals(-1, add(store, "star"));
+        assertEquals(1, store.size());
+    }
+
+    // 지운 자리로 마지막 슬롯이 옮겨져도 옮겨진 단어의 색인이 따라가야 함
+    @Test
+    void removeAtKeepsIndexOfMovedWord() {
+        MeteorStore store = new MeteorStore();
+        add(store, "star");
+        add(store, "java");
+        add(store, "swing");
+
+        store.removeAt(store.indexOf("star"));
+
+        assertEquals(2, store.size());
+        assertFalse(store.contains("star"));
+        assertEquals("swing", store.getText(store.indexOf("swing")));
+        assertEquals("java", store.getText(store.indexOf("java")));
+    }
+
+    // 화면에서 사라진 단어는 다시 추가할 수 있고, 텍스트 id를 재사용함
+    @Test
+    void removedWordCanBeAddedAgain() {
+        MeteorStore store = new MeteorStore();
+        add(store, "star");
+        store.removeAt(store.indexOf("star"));
+
+        assertTrue(add(store, "star") >= 0);
+        assertTrue(store.contains("star"));
+    }
+
+    // 증분 매칭이 기억해 둔 노드는 그 접두사의 단어가 모두 사라지면 떼어 낸 노드로 표시되고,
+    // 같은 접두사의 단어가 다시 생기면 붙어 있는 조상에서 내려가 새 노드를 찾을 수 있어야 함
+    @Test
+    void cachedPrefixNodeIsDetachedAndReachableAgainFromAncestor() {
+        MeteorStore store = new MeteorStore();
+        add(store, "star");
+        add(store, "sun");
+        PrefixTrie.Node s = store.findPrefix("s");
+        PrefixTrie.Node st = store.findPrefix("st");
+
+        store.removeAt(store.indexOf("star"));
+        assertTrue(st.isDetached());
+        assertFalse(s.isDetached());
+
+        add(store, "stone");
+        PrefixTrie.Node resolved = s.child('t');
+        assertFalse(resolved.isDetached());
+        assertEquals("stone", store.textOfId(resolved.idAt(0)));
+        assertEquals(store.indexOf("stone"), store.slotOfId(resolved.idAt(0)));
+    }
+
+    @Test
+    void clearEmptiesPrefixIndex() {
+        MeteorStore store = new MeteorStore();
+        add(store, "star");
+        add(store, "stone");
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertEquals(0, store.prefixRoot().size());
+        assertNull(store.findPrefix("st"));
+    }
+}
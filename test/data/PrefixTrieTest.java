@@ -0,0 +1,109 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// PrefixTrie의 접두사 검색, O(1) 제거, 빈 노드 떼어 내기 검사
+class PrefixTrieTest {
+
+    private static Set<Integer> ids(PrefixTrie.Node node) {
+        Set<Integer> result = new HashSet<Integer>();
+        if (node != null) {
+            for (int i = 0; i < node.size(); i++) {
+                result.add(node.idAt(i));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void findReturnsWordsStartingWithPrefix() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.insert("star", 0);
+        trie.insert("stone", 1);
+        trie.insert("java", 2);
+
+        assertEquals(Set.of(0, 1), ids(trie.find("st")));
+        assertEquals(Set.of(0), ids(trie.find("star")));
+        assertEquals(Set.of(0, 1, 2), ids(trie.root()));
+        assertNull(trie.find("sw"));
+    }
+
+    @Test
+    void removeKeepsOtherIdsInSharedNodes() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.insert("star", 0);
+        trie.insert("stone", 1);
+        trie.insert("step", 2);
+
+        trie.remove("star", 0);
+
+        assertEquals(Set.of(1, 2), ids(trie.find("st")));
+        assertEquals(Set.of(1, 2), ids(trie.root()));
+    }
+
+    // 단어가 모두 빠진 노드는 떼어 내고, 같은 접두사가 다시 생기면 새 노드를 만듦
+    @Test
+    void emptyNodesAreDetachedAndReplaced() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.insert("star", 0);
+        trie.insert("stone", 1);
+        PrefixTrie.Node sta = trie.find("sta");
+        PrefixTrie.Node st = trie.find("st");
+
+        trie.remove("star", 0);
+
+        assertTrue(sta.isDetached());
+        assertFalse(st.isDetached());
+        assertNull(trie.find("sta"));
+        assertSame(st, trie.find("st"));
+
+        trie.insert("stay", 2);
+        PrefixTrie.Node again = trie.find("sta");
+        assertNotSame(sta, again);
+        assertEquals(Set.of(2), ids(again));
+        assertFalse(trie.root().isDetached());
+    }
+
+    // 무작위 추가/제거를 단순 구현과 비교
+    @Test
+    void randomOperationsMatchBruteForce() {
+        PrefixTrie trie = new PrefixTrie();
+        Map<Integer, String> live = new HashMap<Integer, String>();
+        String[] texts = {"a", "ab", "abc", "abd", "b", "ba", "bab", "c"};
+        Random random = new Random(42);
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(texts.length * 4);
+            String text = texts[id % texts.length];
+            if (live.containsKey(id)) {
+                trie.remove(text, id);
+                live.remove(id);
+            } else {
+                trie.insert(text, id);
+                live.put(id, text);
+            }
+            String prefix = texts[random.nextInt(texts.length)].substring(0, 1);
+            Set<Integer> expected = new HashSet<Integer>();
+            for (Map.Entry<Integer, String> entry : live.entrySet()) {
+                if (entry.getValue().startsWith(prefix)) {
+                    expected.add(entry.getKey());
+                }
+            }
+            PrefixTrie.Node node = trie.find(prefix);
+            assertEquals(expected, ids(node));
+            assertEquals(expected.isEmpty(), node == null);
+        }
+    }
+}
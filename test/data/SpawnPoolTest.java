@@ -0,0 +1,107 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// SpawnPool의 비복원 추출과 소진, 되돌려 놓기 검사
+class SpawnPoolTest {
+
+    private static SpawnPool.Source source(List<String> words) {
+        return new SpawnPool.Source() {
+            @Override
+            public int size() {
+                return words.size();
+            }
+
+            @Override
+            public String wordAt(int index) {
+                return (index < words.size()) ? words.get(index) : null;
+            }
+        };
+    }
+
+    private static List<String> words(int count) {
+        List<String> words = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            words.add("word" + i);
+        }
+        return words;
+    }
+
+    // 모두 뽑을 때까지 같은 단어가 두 번 나오지 않고, 다 뽑으면 null
+    @Test
+    void takesEveryWordOnceThenRunsOut() {
+        SpawnPool pool = new SpawnPool();
+        pool.reset(source(words(100)));
+
+        Set<String> taken = new HashSet<String>();
+        for (int i = 0; i < 100; i++) {
+            String word = pool.take();
+            assertNotNull(word);
+            assertTrue(taken.add(word), "taken twice: " + word);
+        }
+        assertEquals(0, pool.available());
+        assertNull(pool.take());
+    }
+
+    @Test
+    void givenBackWordCanBeTakenAgain() {
+        SpawnPool pool = new SpawnPool();
+        pool.reset(source(words(3)));
+        String first = pool.take();
+        pool.take();
+        pool.take();
+
+        pool.giveBack(first);
+
+        assertEquals(1, pool.available());
+        assertEquals(first, pool.take());
+    }
+
+    // 게임 중에 사전에 추가된 단어도 뽑을 수 있음
+    @Test
+    void seesWordsAddedToSource() {
+        List<String> words = words(1);
+        SpawnPool pool = new SpawnPool();
+        pool.reset(source(words));
+        assertEquals("word0", pool.take());
+        assertNull(pool.take());
+
+        words.add("added");
+
+        assertEquals("added", pool.take());
+    }
+
+    @Test
+    void emptyOrMissingSourceYieldsNothing() {
+        SpawnPool pool = new SpawnPool();
+        assertNull(pool.take());
+
+        pool.reset(null);
+        assertNull(pool.take());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void resetMakesTakenWordsAvailable() {
+        SpawnPool pool = new SpawnPool();
+        SpawnPool.Source source = source(words(2));
+        pool.reset(source);
+        pool.take();
+        pool.take();
+
+        pool.reset(source);
+
+        assertEquals(2, pool.available());
+        assertNotNull(pool.take());
+    }
+}
@@ -0,0 +1,124 @@
+package repository;
+
+import data.ScoreEntry;
+import difficulty.Difficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// BinaryScoreRepository의 레코드 저장/다시 열기, 쓰다 만 레코드 잘라내기, 텍스트 점수 파일 옮기기 검사
+class BinaryScoreRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private String recordFile() {
+        return dir.resolve("scores.bin").toString();
+    }
+
+    private static List<String> describe(List<ScoreEntry> entries) {
+        List<String> result = new ArrayList<String>();
+        for (ScoreEntry entry : entries) {
+            result.add(entry.getPlayerName() + "=" + entry.getScore());
+        }
+        return result;
+    }
+
+    @Test
+    void savedScoresSurviveReopen() {
+        BinaryScoreRepository repository = new BinaryScoreRepository(recordFile(), null);
+        repository.saveScore(new ScoreEntry("kim", 100, Difficulty.HARD, 1_700_000_000_000L));
+        repository.saveScores(List.of(new ScoreEntry("lee, jr\n", 300), new ScoreEntry("kim", 200)));
+        repository.flush();
+
+        BinaryScoreRepository reopened = new BinaryScoreRepository(recordFile(), null);
+
+        assertEquals(3, reopened.size());
+        assertEquals(List.of("lee, jr\n=300", "kim=200", "kim=100"), describe(reopened.loadTopScores(10)));
+        ScoreEntry last = reopened.loadTopScores(3).get(2);
+        assertEquals(Difficulty.HARD, last.getDifficulty());
+        assertEquals(1_700_000_000_000L, last.getTimestamp()); // 초 단위로 저장
+        assertNull(reopened.loadTopScores(3).get(1).getDifficulty());
+    }
+
+    // 같은 이름은 이름 파일에 한 번만 기록
+    @Test
+    void namesAreStoredOnce() throws IOException {
+        BinaryScoreRepository repository = new BinaryScoreRepository(recordFile(), null);
+        for (int i = 0; i < 100; i++) {
+            repository.saveScore(new ScoreEntry("kim", i));
+        }
+
+        assertEquals(2 + "kim".length(), Files.size(dir.resolve("scores.bin.names")));
+        assertEquals(8 + 100 * 16, Files.size(dir.resolve("scores.bin")));
+    }
+
+    // 쓰다 만 마지막 레코드는 다시 열 때 잘라냄
+    @Test
+    void tornTailRecordIsTruncated() throws IOException {
+        BinaryScoreRepository repository = new BinaryScoreRepository(recordFile(), null);
+        repository.saveScore(new ScoreEntry("kim", 100));
+        Files.write(dir.resolve("scores.bin"), new byte[] {0, 0, 0, 0, 1}, StandardOpenOption.APPEND);
+
+        BinaryScoreRepository reopened = new BinaryScoreRepository(recordFile(), null);
+
+        assertEquals(List.of("kim=100"), describe(reopened.loadTopScores(10)));
+        assertEquals(8 + 16, Files.size(dir.resolve("scores.bin")));
+        reopened.saveScore(new ScoreEntry("lee", 50));
+        assertEquals(List.of("kim=100", "lee=50"), describe(reopened.loadTopScores(10)));
+    }
+
+    // 레코드 파일이 없을 때만 텍스트 점수 파일을 옮기며, 잘못된 줄은 건너뜀
+    @Test
+    void migratesLegacyCsvOnce() throws IOException {
+        Path csv = dir.resolve("scores.txt");
+        Files.writeString(csv, "kim,100\nbroken\nlee, jr,300\n");
+
+        BinaryScoreRepository repository = new BinaryScoreRepository(recordFile(), csv.toString());
+        assertEquals(List.of("lee, jr=300", "kim=100"), describe(repository.loadTopScores(10)));
+
+        Files.writeString(csv, "park,999\n");
+        BinaryScoreRepository reopened = new BinaryScoreRepository(recordFile(), csv.toString());
+        assertEquals(2, reopened.countScores());
+    }
+
+    @Test
+    void rankAndPercentileCountTies() {
+        BinaryScoreRepository repository = new BinaryScoreRepository(recordFile(), null);
+        assertEquals(1, repository.rankOf(0));
+        assertEquals(100.0, repository.percentile(0));
+        for (int score : new int[] {10, 20, 20, 30}) {
+            repository.saveScore(new ScoreEntry("p", score));
+        }
+
+        assertEquals(1, repository.rankOf(30));
+        assertEquals(2, repository.rankOf(20));
+        assertEquals(4, repository.rankOf(15));
+        assertEquals(75.0, repository.percentile(20));
+        assertEquals(0.0, repository.percentile(5));
+    }
+
+    // 점수 파일이 아닌 파일은 덮어쓰지 않음
+    @Test
+    void foreignFileIsLeftAlone() throws IOException {
+        Files.writeString(dir.resolve("scores.bin"), "not a score file");
+
+        BinaryScoreRepository repository = new BinaryScoreRepository(recordFile(), null);
+        repository.saveScore(new ScoreEntry("kim", 1));
+
+        assertTrue(repository.loadTopScores(10).isEmpty());
+        assertEquals("not a score file", Files.readString(dir.resolve("scores.bin")));
+        assertFalse(Files.exists(dir.resolve("scores.bin.names")));
+    }
+}
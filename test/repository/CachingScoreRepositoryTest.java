@@ -0,0 +1,63 @@
+package repository;
+
+import data.ScoreEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// CachingScoreRepository가 메모리의 상위 목록과 점수 분포로 답한 결과를 원본(파일을 훑는 기본 구현)과 비교
+class CachingScoreRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<String> describe(List<ScoreEntry> entries) {
+        List<String> result = new ArrayList<String>();
+        for (ScoreEntry entry : entries) {
+            result.add(entry.getPlayerName() + "=" + entry.getScore());
+        }
+        return result;
+    }
+
+    @Test
+    void answersMatchDelegate() {
+        String file = dir.resolve("scores.bin").toString();
+        BinaryScoreRepository delegate = new BinaryScoreRepository(file, null);
+        delegate.saveScore(new ScoreEntry("before", 500)); // 캐시가 처음 읽을 때 가져와야 하는 기록
+        CachingScoreRepository repository = new CachingScoreRepository(delegate, file, 5);
+        Random random = new Random(3);
+
+        for (int i = 0; i < 300; i++) {
+            int score = (random.nextInt(20) == 0) ? -random.nextInt(10) : random.nextInt(3000);
+            repository.saveScore(new ScoreEntry("p" + i, score));
+            int probe = random.nextInt(3200) - 100;
+            assertEquals(delegate.rankOf(probe), repository.rankOf(probe), "score " + probe);
+            assertEquals(delegate.percentile(probe), repository.percentile(probe), 1e-9);
+        }
+
+        assertEquals(301, repository.countScores());
+        assertEquals(describe(delegate.loadTopScores(5)), describe(repository.loadTopScores(5)));
+        assertEquals(describe(delegate.loadTopScores(20)), describe(repository.loadTopScores(20))); // 더 많이 요청하면 다시 읽음
+    }
+
+    // 같은 점수는 먼저 저장된 기록이 앞 순위
+    @Test
+    void tiesKeepSaveOrder() {
+        String file = dir.resolve("scores.bin").toString();
+        CachingScoreRepository repository = new CachingScoreRepository(new BinaryScoreRepository(file, null), file, 3);
+        repository.saveScores(List.of(new ScoreEntry("a", 10), new ScoreEntry("b", 20), new ScoreEntry("c", 10)));
+        repository.saveScore(new ScoreEntry("d", 10));
+
+        List<ScoreEntry> top = repository.loadTopScores(3);
+
+        assertEquals("b", top.get(0).getPlayerName());
+        assertEquals("a", top.get(1).getPlayerName());
+        assertEquals("c", top.get(2).getPlayerName());
+    }
+}
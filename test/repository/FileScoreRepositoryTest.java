@@ -0,0 +1,63 @@
+package repository;
+
+import data.ScoreEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// FileScoreRepository의 텍스트 점수 파일 해석 검사 (BinaryScoreRepository로 옮길 때 쓰이는 경로)
+class FileScoreRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<String> describe(List<ScoreEntry> entries) {
+        List<String> result = new ArrayList<String>();
+        for (ScoreEntry entry : entries) {
+            result.add(entry.getPlayerName() + "=" + entry.getScore());
+        }
+        return result;
+    }
+
+    // 이름의 쉼표는 마지막 쉼표로 나누어 살리고, 잘못된 줄과 빈 줄은 건너뜀
+    @Test
+    void forEachScoreSkipsBadLines() throws IOException {
+        Path path = dir.resolve("scores.txt");
+        Files.writeString(path, "kim,100\r\n\n lee, 200 \nno comma\npark,\nchoi,abc\nhan,99999999999\nyoon, jae,300");
+        List<ScoreEntry> visited = new ArrayList<ScoreEntry>();
+
+        new FileScoreRepository(path.toString()).forEachScore(visited::add);
+
+        assertEquals(List.of("kim=100", "lee=200", "yoon, jae=300"), describe(visited));
+    }
+
+    // 버퍼보다 긴 파일에서도 상위 기록을 순위순으로 반환 (같은 점수는 먼저 저장된 기록이 앞)
+    @Test
+    void loadTopScoresAcrossBufferBoundaries() {
+        FileScoreRepository repository = new FileScoreRepository(dir.resolve("scores.txt").toString());
+        for (int i = 0; i < 3000; i++) {
+            repository.saveScore(new ScoreEntry("player" + i, i % 1000));
+        }
+
+        assertEquals(List.of("player999=999", "player1999=999", "player2999=999", "player998=998"),
+                describe(repository.loadTopScores(4)));
+    }
+
+    @Test
+    void missingFileHasNoScores() throws IOException {
+        FileScoreRepository repository = new FileScoreRepository(dir.resolve("none.txt").toString());
+        List<ScoreEntry> visited = new ArrayList<ScoreEntry>();
+
+        repository.forEachScore(visited::add);
+
+        assertEquals(List.of(), visited);
+        assertEquals(List.of(), repository.loadTopScores(10));
+    }
+}
@@ -0,0 +1,124 @@
+package repository;
+
+import difficulty.Difficulty;
+import difficulty.WordClassifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// FileTextRepository의 저널 재적용, 합치기, 난이도별 목록 검사
+class FileTextRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, String content) throws IOException {
+        Path path = dir.resolve(name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static Set<String> set(List<String> words) {
+        return new HashSet<String>(words);
+    }
+
+    // 시작할 때 기본 파일 위에 .applied, 저널 순서로 기록을 다시 적용하고, 줄바꿈 없이 잘린 마지막 기록은 무시
+    @Test
+    void replaysAppliedThenJournalAndSkipsTornRecord() throws IOException {
+        Path base = write("words.txt", "star\njava\n");
+        write("words.txt.applied", "+swing\n-java\n");
+        write("words.txt.journal", "+java\n-star\n+torn");
+
+        FileTextRepository repository = new FileTextRepository(base.toString());
+
+        assertEquals(Set.of("swing", "java"), set(repository.getAllWords()));
+    }
+
+    // 기록을 다시 적용해도 결과가 같음 (합치기 중간에 멈춰 같은 기록이 기본 파일과 저널에 모두 남은 경우)
+    @Test
+    void replayIsIdempotent() throws IOException {
+        Path base = write("words.txt", "star\nswing\n");
+        write("words.txt.applied", "+swing\n+swing\n-java\n");
+
+        FileTextRepository repository = new FileTextRepository(base.toString());
+
+        assertEquals(List.of("star", "swing"), repository.getAllWords());
+    }
+
+    // 추가/삭제는 저널에만 덧붙이고, 다시 열면 그대로 복구됨
+    @Test
+    void editsSurviveReopenThroughJournal() throws IOException {
+        Path base = write("words.txt", "star\n");
+        FileTextRepository repository = new FileTextRepository(base.toString());
+        assertTrue(repository.addWord("  우주  "));
+        assertFalse(repository.addWord("우주"));
+        assertEquals(2, repository.addWords(List.of("java", "swing", "java")));
+        assertTrue(repository.removeWord("star"));
+        assertFalse(repository.removeWord("star"));
+
+        assertEquals("star\n", Files.readString(base, StandardCharsets.UTF_8)); // 기본 파일은 그대로
+        FileTextRepository reopened = new FileTextRepository(base.toString());
+        assertEquals(Set.of("우주", "java", "swing"), set(reopened.getAllWords()));
+    }
+
+    // 저널 기록이 합치기 기준 수를 넘으면 백그라운드에서 기본 파일(UTF-8)로 합치고 저널을 지움
+    @Test
+    void compactsJournalIntoBaseFile() throws Exception {
+        Path base = write("words.txt", "star\n");
+        FileTextRepository repository = new FileTextRepository(base.toString());
+        List<String> added = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            added.add("단어" + i);
+        }
+        repository.addWords(added);
+
+        Path journal = dir.resolve("words.txt.journal");
+        Path applied = dir.resolve("words.txt.applied");
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ((Files.exists(journal) || Files.exists(applied)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertFalse(Files.exists(journal));
+        assertFalse(Files.exists(applied));
+        List<String> lines = Files.readAllLines(base, StandardCharsets.UTF_8);
+        assertEquals(1001, lines.size());
+        assertTrue(lines.contains("단어999"));
+        assertEquals(set(repository.getAllWords()), set(new FileTextRepository(base.toString()).getAllWords()));
+    }
+
+    // 삭제는 마지막 단어를 빈자리로 옮기므로 순서는 바뀌어도, 전체 목록과 난이도별 목록이 서로 맞아야 함
+    @Test
+    void bucketsStayConsistentWithAllWords() throws IOException {
+        Path base = write("words.txt", "a\nquiz\nJava\nxylophone\nzebra\nstar\n");
+        FileTextRepository repository = new FileTextRepository(base.toString());
+        repository.removeWord("quiz");
+        repository.removeWord("a");
+        repository.addWord("QZX!");
+
+        Set<String> fromBuckets = new HashSet<String>();
+        for (Difficulty difficulty : Difficulty.values()) {
+            List<String> bucket = repository.getWords(difficulty);
+            assertEquals(bucket.size(), repository.countWords(difficulty));
+            for (int i = 0; i < bucket.size(); i++) {
+                assertEquals(difficulty, WordClassifier.classify(bucket.get(i)));
+                assertEquals(bucket.get(i), repository.wordAt(difficulty, i));
+            }
+            fromBuckets.addAll(bucket);
+        }
+        assertEquals(set(repository.getAllWords()), fromBuckets);
+        assertEquals(repository.getAllWords(), repository.getWords(null));
+    }
+}
@@ -0,0 +1,199 @@
+package repository;
+
+import difficulty.Difficulty;
+import difficulty.WordClassifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// MappedTextRepository의 색인 파일 재사용/재생성, 세대 파일, 삭제 기록과 단어 파일 정리 검사
+class MappedTextRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        Path path = dir.resolve("words.txt");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    // 디렉터리의 파생 파일 이름들 (단어 파일, 삭제 기록 제외)
+    private Set<String> derivedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith("words.txt.") && !name.equals("words.txt.del"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static void assertConsistent(MappedTextRepository repository, Set<String> expected) {
+        assertEquals(expected, new HashSet<String>(repository.getAllWords()));
+        assertEquals(expected.size(), repository.countWords(null));
+        Set<String> fromBuckets = new HashSet<String>();
+        for (Difficulty difficulty : Difficulty.values()) {
+            List<String> bucket = repository.getWords(difficulty);
+            assertEquals(bucket.size(), repository.countWords(difficulty));
+            for (int i = 0; i < bucket.size(); i++) {
+                assertEquals(difficulty, WordClassifier.classify(bucket.get(i)));
+                assertEquals(bucket.get(i), repository.wordAt(difficulty, i));
+            }
+            fromBuckets.addAll(bucket);
+        }
+        assertEquals(expected, fromBuckets);
+    }
+
+    // 빈 줄은 건너뛰고, 앞뒤 공백과 CR은 단어에 포함하지 않음
+    @Test
+    void indexesNonBlankLines() throws IOException {
+        Path path = write("star\r\n\n   \n  java  \n우주\nlast");
+
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+
+        assertConsistent(repository, Set.of("star", "java", "우주", "last"));
+        assertNull(repository.wordAt(null, 4));
+        assertTrue(derivedFiles().containsAll(Set.of("words.txt.idx.1", "words.txt.cls.1", "words.txt.hash.1",
+                "words.txt.easy.ids.1", "words.txt.normal.ids.1", "words.txt.hard.ids.1")));
+    }
+
+    // 단어 파일이 그대로면 다시 열 때 색인을 다시 만들지 않고, 바뀌면 새 세대로 만들고 이전 세대를 지움
+    @Test
+    void reusesIndexUntilWordFileChanges() throws IOException {
+        Path path = write("star\njava\n");
+        new MappedTextRepository(path.toString());
+        Set<String> first = derivedFiles();
+
+        MappedTextRepository reopened = new MappedTextRepository(path.toString());
+        assertEquals(first, derivedFiles());
+        assertTrue(reopened.getStatsText().contains("색인 재사용"), reopened.getStatsText());
+
+        Files.write(path, "swing\nthread\ngalaxy\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        MappedTextRepository changed = new MappedTextRepository(path.toString());
+
+        assertConsistent(changed, Set.of("swing", "thread", "galaxy"));
+        assertTrue(derivedFiles().contains("words.txt.idx.2"));
+        assertFalse(derivedFiles().contains("words.txt.idx.1"));
+    }
+
+    // 헤더가 없는 (쓰다 만) 새 세대 파일은 쓰지 않고, 그보다 큰 번호로 다시 만듦
+    @Test
+    void ignoresTornGeneration() throws IOException {
+        Path path = write("star\njava\n");
+        new MappedTextRepository(path.toString());
+        Files.write(dir.resolve("words.txt.idx.7"), new byte[64]);
+
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+
+        assertConsistent(repository, Set.of("star", "java"));
+        assertTrue(derivedFiles().contains("words.txt.idx.1"));
+        assertFalse(derivedFiles().contains("words.txt.idx.7")); // 쓰지 않는 세대는 지움
+    }
+
+    // 추가한 단어는 단어 파일 끝에 덧붙고, 색인을 다시 만들지 않고 다시 열어도 보임
+    @Test
+    void appendsWithoutRebuilding() throws IOException {
+        Path path = write("star\njava");
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+
+        assertEquals(2, repository.addWords(List.of("swing", " swing ", "star", "quiz")));
+        assertFalse(repository.addWord("java"));
+        assertTrue(repository.addWord("thread"));
+        assertConsistent(repository, Set.of("star", "java", "swing", "quiz", "thread"));
+        assertEquals("star\njava\nswing\nquiz\nthread\n", Files.readString(path, StandardCharsets.UTF_8));
+
+        Set<String> files = derivedFiles();
+        MappedTextRepository reopened = new MappedTextRepository(path.toString());
+        assertEquals(files, derivedFiles());
+        assertConsistent(reopened, Set.of("star", "java", "swing", "quiz", "thread"));
+    }
+
+    // 해시 표가 차면 더 큰 표를 새 세대로 만듦
+    @Test
+    void growsHashTableIntoNewGeneration() throws IOException {
+        Path path = write("star\n");
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+        Set<String> expected = new HashSet<String>(Set.of("star"));
+        List<String> batch = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            batch.add("word" + i);
+        }
+        expected.addAll(batch);
+
+        assertEquals(100, repository.addWords(batch));
+
+        assertConsistent(repository, expected);
+        assertFalse(repository.addWord("word57"));
+        assertNotEquals(Set.of(), derivedFiles().stream().filter(n -> n.startsWith("words.txt.hash.")
+                && !n.equals("words.txt.hash.1")).collect(Collectors.toSet()));
+    }
+
+    // 삭제는 단어 파일을 다시 쓰지 않고 삭제 기록에 남기며, 다시 열면 기록을 적용함
+    @Test
+    void removalIsJournaledAndReplayed() throws IOException {
+        Path path = write("star\njava\nswing\nstar\n");
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+
+        assertTrue(repository.removeWord(" star "));  // 같은 단어가 여러 줄에 있으면 모두 삭제
+        assertFalse(repository.removeWord("star"));
+        assertTrue(repository.addWord("star"));     // 삭제한 단어는 다시 추가할 수 있음
+        assertTrue(repository.removeWord("java"));
+        assertConsistent(repository, Set.of("swing", "star"));
+        assertEquals("star\njava\nswing\nstar\nstar\n", Files.readString(path, StandardCharsets.UTF_8));
+
+        MappedTextRepository reopened = new MappedTextRepository(path.toString());
+        assertConsistent(reopened, Set.of("swing", "star"));
+    }
+
+    // 삭제 기록이 많이 쌓이면 다음에 열 때(매핑 전) 삭제한 줄을 뺀 단어 파일로 바꾸고 기록을 지움
+    @Test
+    void compactsWordFileOnOpenAfterManyRemovals() throws IOException {
+        StringBuilder content = new StringBuilder();
+        Set<String> expected = new HashSet<String>();
+        for (int i = 0; i < 3000; i++) {
+            content.append("word").append(i).append('\n');
+            expected.add("word" + i);
+        }
+        Path path = write(content.toString());
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+        for (int i = 0; i < 3000; i += 2) {
+            assertTrue(repository.removeWord("word" + i));
+            expected.remove("word" + i);
+        }
+        assertConsistent(repository, expected);
+
+        MappedTextRepository reopened = new MappedTextRepository(path.toString());
+
+        assertFalse(Files.exists(dir.resolve("words.txt.del")));
+        assertEquals(1500, Files.readAllLines(path, StandardCharsets.UTF_8).size());
+        assertConsistent(reopened, expected);
+    }
+
+    // 삭제 기록 이후 단어 파일이 바뀌어 번호와 단어가 맞지 않는 기록은 적용하지 않음
+    @Test
+    void ignoresStaleRemovalRecords() throws IOException {
+        Path path = write("star\njava\n");
+        Files.write(dir.resolve("words.txt.del"), "0\tjava\n1\tjava\n5\tstar\n0\tst".getBytes(StandardCharsets.UTF_8));
+
+        MappedTextRepository repository = new MappedTextRepository(path.toString());
+
+        assertConsistent(repository, Set.of("star"));
+    }
+}
@@ -0,0 +1,72 @@
+package repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// ScoreRankIndex의 펜윅 트리 순위 계산을 단순 구현과 비교 (범위 확장, 범위 밖 점수 포함)
+class ScoreRankIndexTest {
+
+    private static void assertMatches(ScoreRankIndex index, List<Integer> scores, int probe) {
+        long atOrBelow = 0;
+        for (int score : scores) {
+            if (score <= probe) {
+                atOrBelow++;
+            }
+        }
+        assertEquals(atOrBelow, index.countAtOrBelow(probe), "score " + probe);
+        assertEquals(scores.size() - atOrBelow, index.countAbove(probe), "score " + probe);
+    }
+
+    @Test
+    void emptyIndexCountsNothing() {
+        ScoreRankIndex index = new ScoreRankIndex();
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.countAtOrBelow(Integer.MAX_VALUE));
+        assertEquals(0, index.countAbove(Integer.MIN_VALUE));
+    }
+
+    // 범위를 넘는 점수가 들어와 펜윅 트리가 늘어나도 이전 기록의 순위가 유지되어야 함
+    @Test
+    void growingDomainKeepsEarlierCounts() {
+        ScoreRankIndex index = new ScoreRankIndex();
+        List<Integer> scores = new ArrayList<Integer>();
+        for (int score : new int[] {0, 5, 1023, 1023, 1024, 4000, 70_000, (1 << 20) - 1}) {
+            index.add(score);
+            scores.add(score);
+            for (int probe : new int[] {-1, 0, 4, 5, 1022, 1023, 1024, 2047, 4000, 65_535, 70_000, (1 << 20) - 1}) {
+                assertMatches(index, scores, probe);
+            }
+        }
+    }
+
+    // 음수와 MAX_DOMAIN 이상의 점수를 섞은 무작위 기록
+    @Test
+    void randomScoresWithOutliersMatchBruteForce() {
+        Random random = new Random(11);
+        int[] samples = {-50, -1, 0, 1, 999, 1024, 30_000, 1 << 20, (1 << 20) + 7, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        ScoreRankIndex index = new ScoreRankIndex();
+        List<Integer> scores = new ArrayList<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            int score = (random.nextInt(10) == 0) ? samples[random.nextInt(samples.length)] : random.nextInt(5000);
+            index.add(score);
+            scores.add(score);
+            if (i % 50 == 0) {
+                for (int probe : samples) {
+                    assertMatches(index, scores, probe);
+                }
+                assertMatches(index, scores, random.nextInt(5000));
+            }
+        }
+        assertEquals(scores.size(), index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertMatches(index, new ArrayList<Integer>(), 100);
+    }
+}
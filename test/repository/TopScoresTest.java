@@ -0,0 +1,73 @@
+package repository;
+
+import data.ScoreEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// TopScores의 상위 limit개 유지와 같은 점수의 순서 검사
+class TopScoresTest {
+
+    private static List<String> names(List<ScoreEntry> entries) {
+        List<String> result = new ArrayList<String>();
+        for (ScoreEntry entry : entries) {
+            result.add(entry.getPlayerName());
+        }
+        return result;
+    }
+
+    private static void offer(TopScores top, String name, int score, long order) {
+        if (top.accepts(score)) {
+            top.add(new ScoreEntry(name, score), order);
+        }
+    }
+
+    // 같은 점수는 먼저 저장된 기록이 앞 순위이고, 가득 찬 뒤 같은 점수로 들어온 기록은 밀어내지 못함
+    @Test
+    void keepsBestScoresWithEarlierTiesFirst() {
+        TopScores top = new TopScores(3);
+        offer(top, "a", 10, 0);
+        offer(top, "b", 30, 1);
+        offer(top, "c", 20, 2);
+        offer(top, "d", 30, 3);
+
+        assertFalse(top.accepts(20));
+        assertTrue(top.accepts(21));
+        offer(top, "e", 20, 4);
+
+        assertEquals(List.of("b", "d", "c"), names(top.toList()));
+    }
+
+    @Test
+    void zeroLimitAcceptsNothing() {
+        TopScores top = new TopScores(0);
+
+        assertFalse(top.accepts(Integer.MAX_VALUE));
+        assertEquals(List.of(), top.toList());
+    }
+
+    // 무작위 점수를 전체 정렬 결과의 앞부분과 비교
+    @Test
+    void matchesStableSortOfAllScores() {
+        Random random = new Random(7);
+        List<ScoreEntry> all = new ArrayList<ScoreEntry>();
+        TopScores top = new TopScores(25);
+        for (int i = 0; i < 5000; i++) {
+            ScoreEntry entry = new ScoreEntry("p" + i, random.nextInt(200));
+            all.add(entry);
+            if (top.accepts(entry.getScore())) {
+                top.add(entry, i);
+            }
+        }
+        all.sort(Comparator.comparingInt(ScoreEntry::getScore).reversed()); // 안정 정렬이므로 같은 점수는 저장 순서 유지
+
+        assertEquals(names(all.subList(0, 25)), names(top.toList()));
+    }
+}
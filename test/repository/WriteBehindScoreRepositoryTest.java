@@ -0,0 +1,157 @@
+package repository;
+
+import data.ScoreEntry;
+import org.junit.jupiter.api.Test;
+import repository.interfaces.ScoreRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// WriteBehindScoreRepository의 저장 전 조회 반영, 묶음 저장, flush/close 시 기록과 동기화 정책 검사
+class WriteBehindScoreRepositoryTest {
+
+    // 메모리에 기록하는 원본. gate가 열릴 때까지 쓰기 스레드의 저장을 붙잡아 둘 수 있음
+    private static final class MemoryRepository implements ScoreRepository {
+        private final List<ScoreEntry> stored = new ArrayList<ScoreEntry>();
+        private final CountDownLatch gate;
+        private int flushes = 0;
+
+        MemoryRepository(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void saveScore(ScoreEntry entry) {
+            saveScores(List.of(entry));
+        }
+
+        @Override
+        public void saveScores(List<ScoreEntry> entries) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                stored.addAll(entries);
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            flushes++;
+        }
+
+        @Override
+        public synchronized List<ScoreEntry> loadTopScores(int limit) {
+            List<ScoreEntry> sorted = new ArrayList<ScoreEntry>(stored);
+            sorted.sort(null);
+            return new ArrayList<ScoreEntry>(sorted.subList(0, Math.min(limit, sorted.size())));
+        }
+
+        synchronized int storedCount() {
+            return stored.size();
+        }
+
+        synchronized int flushCount() {
+            return flushes;
+        }
+    }
+
+    private static List<String> names(List<ScoreEntry> entries) {
+        List<String> result = new ArrayList<String>();
+        for (ScoreEntry entry : entries) {
+            result.add(entry.getPlayerName());
+        }
+        return result;
+    }
+
+    // 쓰기 스레드가 원본에 저장하지 못하고 있어도 방금 저장한 점수가 조회에 보이고, 저장된 뒤에도 두 번 세지 않음
+    @Test
+    void pendingScoresAreVisibleBeforeTheyAreWritten() {
+        CountDownLatch gate = new CountDownLatch(1);
+        MemoryRepository delegate = new MemoryRepository(gate);
+        WriteBehindScoreRepository repository =
+                new WriteBehindScoreRepository(delegate, WriteBehindScoreRepository.SyncPolicy.NEVER);
+        repository.saveScore(new ScoreEntry("kim", 100));
+        repository.saveScore(new ScoreEntry("lee", 300));
+        repository.saveScore(new ScoreEntry("park", 100));
+
+        assertEquals(0, delegate.storedCount());
+        assertEquals(List.of("lee", "kim", "park"), names(repository.loadTopScores(10)));
+        assertEquals(List.of("lee", "kim"), names(repository.loadTopScores(2)));
+        assertEquals(3, repository.countScores());
+        assertEquals(2, repository.rankOf(100));
+        assertEquals(200.0 / 3, repository.percentile(100), 1e-9);
+
+        gate.countDown();
+        repository.flush();
+
+        assertEquals(3, delegate.storedCount());
+        assertEquals(0, repository.getQueueDepth());
+        assertEquals(List.of("lee", "kim", "park"), names(repository.loadTopScores(10)));
+        assertEquals(3, repository.countScores());
+        repository.close();
+    }
+
+    // 연달아 들어온 점수는 maxBatch개씩 묶어 저장
+    @Test
+    void scoresAreWrittenInBatches() throws InterruptedException {
+        CountDownLatch gate = new CountDownLatch(1);
+        MemoryRepository delegate = new MemoryRepository(gate);
+        WriteBehindScoreRepository repository = new WriteBehindScoreRepository(delegate,
+                WriteBehindScoreRepository.SyncPolicy.EVERY_BATCH, 4, 0, 0);
+        repository.saveScore(new ScoreEntry("first", 1)); // 쓰기 스레드가 이 점수를 들고 gate에서 대기
+        TimeUnit.MILLISECONDS.sleep(100);
+        for (int i = 0; i < 8; i++) {
+            repository.saveScore(new ScoreEntry("p" + i, i));
+        }
+
+        gate.countDown();
+        repository.flush();
+
+        assertEquals(9, delegate.storedCount());
+        assertTrue(repository.getMaxBatchSize() <= 4);
+        assertTrue(repository.getBatchesWritten() < 9, "batches " + repository.getBatchesWritten());
+        assertTrue(delegate.flushCount() >= repository.getBatchesWritten()); // 묶음마다 동기화
+        repository.close();
+    }
+
+    // NEVER 정책은 묶음을 저장할 때 동기화하지 않고, close가 남은 점수를 저장한 뒤 한 번 동기화함
+    @Test
+    void closeWritesRemainingScoresAndSyncs() {
+        CountDownLatch gate = new CountDownLatch(1);
+        MemoryRepository delegate = new MemoryRepository(gate);
+        WriteBehindScoreRepository repository =
+                new WriteBehindScoreRepository(delegate, WriteBehindScoreRepository.SyncPolicy.NEVER);
+        for (int i = 0; i < 5; i++) {
+            repository.saveScore(new ScoreEntry("p" + i, i));
+        }
+
+        gate.countDown();
+        repository.close();
+
+        assertEquals(5, delegate.storedCount());
+        assertEquals(1, delegate.flushCount());
+
+        repository.saveScore(new ScoreEntry("late", 9)); // 종료 이후의 저장은 바로 원본에 기록
+        assertEquals(6, delegate.storedCount());
+    }
+
+    @Test
+    void syncPolicyParseFallsBackToDefault() {
+        WriteBehindScoreRepository.SyncPolicy fallback = WriteBehindScoreRepository.SyncPolicy.INTERVAL;
+
+        assertEquals(WriteBehindScoreRepository.SyncPolicy.NEVER,
+                WriteBehindScoreRepository.SyncPolicy.parse(" never ", fallback));
+        assertEquals(WriteBehindScoreRepository.SyncPolicy.EVERY_BATCH,
+                WriteBehindScoreRepository.SyncPolicy.parse("every_batch", fallback));
+        assertEquals(fallback, WriteBehindScoreRepository.SyncPolicy.parse(null, fallback));
+        assertEquals(fallback, WriteBehindScoreRepository.SyncPolicy.parse("sometimes", fallback));
+    }
+}
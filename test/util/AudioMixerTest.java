@@ -0,0 +1,148 @@
+package util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// AudioMixer의 voice 수 제한과 끊을 voice를 고르는 정책 검사
+// 믹서 스레드는 조각마다 출력 라인에 쓰므로, 쓰기를 붙잡아 두는 라인으로 한 조각씩 진행시키며 상태를 확인
+class AudioMixerTest {
+
+    private static final int LONG_SAMPLE_FRAMES = 44100; // 검사 도중 끝나지 않을 길이 (1초)
+
+    // 조각 하나를 쓸 때마다 step() 호출을 기다리는 출력 라인. 믹서 스레드가 write에서 기다리는 동안 voice 상태를 읽음
+    private static final class SteppedLine implements AudioMixer.OutputLine {
+        private final Semaphore entered = new Semaphore(0);
+        private final Semaphore permits = new Semaphore(0);
+        private volatile boolean free = false;
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            if (free) {
+                return;
+            }
+            entered.release();
+            permits.acquireUninterruptibly();
+        }
+
+        @Override
+        public int getBufferBytes() {
+            return 4096;
+        }
+
+        @Override
+        public int getQueuedBytes() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        // 믹서 스레드가 첫 조각을 쓰려고 기다릴 때까지 대기
+        void awaitStart() {
+            entered.acquireUninterruptibly();
+        }
+
+        // 대기 중인 재생 요청을 받아 조각 하나를 섞고, 다음 조각을 쓰려고 기다릴 때까지 대기
+        void step() {
+            permits.release();
+            entered.acquireUninterruptibly();
+        }
+
+        // 더 이상 붙잡지 않음 (믹서를 닫을 수 있도록)
+        void release() {
+            free = true;
+            permits.release(Integer.MAX_VALUE / 2);
+        }
+    }
+
+    private final SteppedLine line = new SteppedLine();
+    private final AudioMixer mixer = new AudioMixer(line);
+
+    @AfterEach
+    void closeMixer() {
+        line.release();
+        mixer.close();
+    }
+
+    private static AudioMixer.Sample sample(int maxVoices) {
+        return new AudioMixer.Sample(new short[LONG_SAMPLE_FRAMES * 2], maxVoices);
+    }
+
+    private static boolean cut(AudioMixer.Voice voice) {
+        return voice.fadeLeft >= 0; // 줄여 끊는 중이거나 끊김
+    }
+
+    // 한 번에 많이 요청해도 같은 효과음은 maxVoices개까지만 재생
+    @Test
+    void sameSampleNeverExceedsMaxVoices() {
+        line.awaitStart();
+        AudioMixer.Sample sample = sample(4);
+        AudioMixer.Sample other = sample(1);
+        for (int i = 0; i < 10; i++) {
+            mixer.play(sample, 1.0f);
+        }
+        mixer.play(other, 1.0f); // 다른 효과음은 따로 셈
+
+        line.step();
+
+        assertEquals(5, mixer.getActiveVoices());
+        assertEquals(11, mixer.getStartLatency().getCount()); // 끊긴 voice도 한 조각은 섞였음
+    }
+
+    // STEAL_OLDEST는 가득 찼을 때 가장 먼저 시작한 voice를 끊고, 자리가 남으면 아무것도 끊지 않음
+    @Test
+    void stealOldestCutsFirstStartedVoice() {
+        line.awaitStart();
+        AudioMixer.Sample sample = sample(2);
+        AudioMixer.Voice first = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.STEAL_OLDEST);
+        line.step();
+        AudioMixer.Voice second = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.STEAL_OLDEST);
+        line.step();
+        assertEquals(2, mixer.getActiveVoices());
+        assertTrue(!cut(first) && !cut(second));
+
+        AudioMixer.Voice third = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.STEAL_OLDEST);
+        line.step();
+
+        assertTrue(cut(first));
+        assertTrue(!cut(second) && !cut(third));
+        assertEquals(2, mixer.getActiveVoices());
+    }
+
+    // ROUND_ROBIN은 자리를 순서대로 쓰므로, 앞 자리의 voice가 이미 끝났어도 다음 요청은 그다음 자리의 voice를 끊음
+    @Test
+    void roundRobinCutsVoiceInNextSlot() {
+        line.awaitStart();
+        AudioMixer.Sample sample = sample(2);
+        AudioMixer.Voice first = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.ROUND_ROBIN);
+        AudioMixer.Voice second = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.ROUND_ROBIN);
+        line.step();
+        first.stop();
+        line.step();
+        assertEquals(1, mixer.getActiveVoices());
+
+        AudioMixer.Voice third = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.ROUND_ROBIN);  // 첫 자리: 이미 끝남
+        AudioMixer.Voice fourth = mixer.play(sample, 1.0f, AudioMixer.VoicePolicy.ROUND_ROBIN); // 둘째 자리: second를 끊음
+        line.step();
+
+        assertTrue(cut(second));
+        assertTrue(!cut(third) && !cut(fourth));
+        assertEquals(2, mixer.getActiveVoices());
+    }
+
+    @Test
+    void voicePolicyParseFallsBackToDefault() {
+        assertEquals(AudioMixer.VoicePolicy.ROUND_ROBIN,
+                AudioMixer.VoicePolicy.parse(" round_robin ", AudioMixer.VoicePolicy.STEAL_OLDEST));
+        assertEquals(AudioMixer.VoicePolicy.STEAL_OLDEST,
+                AudioMixer.VoicePolicy.parse(null, AudioMixer.VoicePolicy.STEAL_OLDEST));
+        assertEquals(AudioMixer.VoicePolicy.ROUND_ROBIN,
+                AudioMixer.VoicePolicy.parse("loudest", AudioMixer.VoicePolicy.ROUND_ROBIN));
+    }
+}
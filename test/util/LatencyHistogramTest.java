@@ -0,0 +1,87 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// LatencyHistogram의 구간 경계와 백분위수 검사
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMean());
+    }
+
+    // 작은 값(0~7)은 값마다 구간이 따로 있으므로 정확함
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(100));
+        assertEquals("0 0 1\n1 1 1\n2 2 1\n3 3 1\n4 4 1\n5 5 1\n6 6 1\n7 7 1\n", histogram.bucketsText());
+    }
+
+    // 구간의 하한과 상한이 빈틈없이 이어지고, 모든 값이 자기 구간 안에 들며 상대 오차가 1/8 이내
+    @Test
+    void bucketBoundsContainValueWithinOneEighth() {
+        long[] values = {8, 9, 15, 16, 17, 1000, 1023, 1024, 1_000_000, 123_456_789L, Long.MAX_VALUE / 3};
+        for (long value : values) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            String[] bucket = histogram.bucketsText().trim().split(" ");
+            long lower = Long.parseLong(bucket[0]);
+            long upper = Long.parseLong(bucket[1]);
+
+            assertTrue(lower <= value && value <= upper, value + " not in [" + lower + ", " + upper + "]");
+            assertTrue(upper - lower + 1 <= lower / 8 + 1, "bucket too wide for " + value);
+        }
+    }
+
+    @Test
+    void neighbouringBucketsDoNotOverlap() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 0; value < 5000; value++) {
+            histogram.record(value);
+        }
+        long previousUpper = -1;
+        for (String line : histogram.bucketsText().split("\n")) {
+            String[] bucket = line.split(" ");
+            long lower = Long.parseLong(bucket[0]);
+            assertEquals(previousUpper + 1, lower);
+            previousUpper = Long.parseLong(bucket[1]);
+        }
+        assertEquals(4999, histogram.getMax());
+    }
+
+    // 백분위수는 구간 상한을 돌려주되 기록된 최댓값을 넘지 않음
+    @Test
+    void percentileIsCappedAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+
+        assertEquals(1000, histogram.getPercentile(50));
+        assertEquals(1000, histogram.getMax());
+    }
+
+    @Test
+    void negativeValuesCountAsZeroAndResetClears() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals("", histogram.bucketsText());
+    }
+}